@@ -0,0 +1,119 @@
+package com.polypadel.bench;
+
+import com.polypadel.config.GlobalExceptionHandler;
+import com.polypadel.dto.LoginRequest;
+import com.polypadel.exception.ApiException;
+import com.polypadel.model.Role;
+import com.polypadel.model.User;
+import com.polypadel.repository.UserRepository;
+import com.polypadel.security.JwtService;
+import com.polypadel.security.LoginAttemptTracker;
+import com.polypadel.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// A 404 answered the previous way (ResponseStatusException and a HashMap body) and with ApiException and its
+// problem body, then a successful and a refused login. Everything is thrown `depth` frames down, about what the
+// filter chain, MVC and the proxies put on the stack. The password check is a plain comparison so the
+// difference between the login paths is not hidden behind BCrypt, which both of them pay.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+    @Param({"0", "150"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private AuthService authService;
+    private LoginRequest good;
+    private LoginRequest wrongPassword;
+
+    @Setup
+    public void setup() {
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("bench@padel.com");
+        user.setPasswordHash("Bench@2025!");
+        user.setRole(Role.JOUEUR);
+        user.setActive(true);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("bench@padel.com")).thenReturn(Optional.of(user));
+        PasswordEncoder plain = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                return raw.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return raw.toString().equals(encoded);
+            }
+        };
+        LoginAttemptTracker tracker = new LoginAttemptTracker(null, null, Integer.MAX_VALUE, 15, 10_000);
+        JwtService jwtService = new JwtService("benchmarkSecretKeyForJWTTokenGeneration2025PolyPadel", 24, 0);
+        authService = new AuthService(userRepository, tracker, plain, jwtService, null, null);
+        ReflectionTestUtils.setField(authService, "maxAttempts", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(authService, "lockoutMinutes", 15);
+        good = new LoginRequest("bench@padel.com", "Bench@2025!");
+        wrongPassword = new LoginRequest("bench@padel.com", "wrong");
+    }
+
+    @Benchmark
+    public Object notFoundPrevious() {
+        try {
+            return nested(depth, () -> {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur non trouvé");
+            });
+        } catch (ResponseStatusException ex) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("status", ex.getStatusCode().value());
+            body.put("detail", ex.getReason());
+            return body;
+        }
+    }
+
+    @Benchmark
+    public Object notFound() {
+        try {
+            return nested(depth, () -> {
+                throw new ApiException.NotFound("Joueur non trouvé");
+            });
+        } catch (ResponseStatusException ex) {
+            return handler.handleResponseStatus(ex);
+        }
+    }
+
+    @Benchmark
+    public Object loginSuccess() {
+        return nested(depth, () -> authService.login(good));
+    }
+
+    @Benchmark
+    public Object loginRefused() {
+        try {
+            return nested(depth, () -> authService.login(wrongPassword));
+        } catch (ResponseStatusException ex) {
+            return handler.handleResponseStatus(ex);
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static Object nested(int depth, Supplier<Object> call) {
+        return depth == 0 ? call.get() : nested(depth - 1, call);
+    }
+}
@@ -0,0 +1,54 @@
+package com.polypadel.bench;
+
+import com.polypadel.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+// Per-request token verification: a parser built per call (previous JwtService), the shared parser, and the verified-token cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "benchmarkSecretKeyForJWTTokenGeneration2025PolyPadel";
+
+    private Key key;
+    private JwtService uncached;
+    private JwtService cached;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        uncached = new JwtService(SECRET, 24, 0);
+        cached = new JwtService(SECRET, 24, 10_000);
+        token = cached.generateToken(42L, "bench@padel.com", "JOUEUR");
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return uncached.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims verifiedCache() {
+        return cached.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(42L, "bench@padel.com", "JOUEUR");
+    }
+}
@@ -0,0 +1,121 @@
+package com.polypadel.bench;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Event-night load against a running server: slow clients trickle a login body byte by byte, each holding a
+// request thread while it is read, and fast clients list events. Prints the fast clients' throughput and latency.
+//
+//   mvn -Pjmh -DskipTests test-compile exec:exec -Djmh.main=com.polypadel.bench.LoadGenerator \
+//       -Djmh.args="http://localhost:8000/api/v1 400 20 30"
+//
+// Run it once against a server started with VIRTUAL_THREADS=false and once with the default to compare.
+public final class LoadGenerator {
+    private static final byte[] SLOW_BODY =
+        "{\"email\":\"load-test@example.invalid\",\"password\":\"not-a-password\"}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Exception {
+        URI base = URI.create(args.length > 0 ? args[0] : "http://localhost:8000/api/v1");
+        int slowClients = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int fastClients = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String token = login(http, base);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger slowDone = new AtomicInteger();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < slowClients; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (trickleLogin(base, seconds)) slowDone.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            HttpRequest events = HttpRequest.newBuilder(base.resolve(base.getPath() + "/events?limit=20"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .build();
+            for (int i = 0; i < fastClients; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(events, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) latencies.add(System.nanoTime() - start);
+                            else errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("slow clients %d, fast clients %d, %d s%n", slowClients, fastClients, seconds);
+        System.out.printf("slow requests completed: %d%n", slowDone.get());
+        System.out.printf("fast requests: %d ok, %d errors, %.1f req/s%n", sorted.size(), errors.get(), sorted.size() / (double) seconds);
+        if (!sorted.isEmpty()) {
+            System.out.printf("latency ms: p50 %.1f, p95 %.1f, p99 %.1f, max %.1f%n",
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted.get(sorted.size() - 1) / 1e6);
+        }
+    }
+
+    private static String login(HttpClient http, URI base) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(base.getPath() + "/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"admin@padel.com\",\"password\":\"Admin@2025!\"}"))
+            .build();
+        String body = http.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        int start = body.indexOf("\"accessToken\":\"") + 15;
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    // The body is spread over about a fifth of the run, so the server waits on it between bytes
+    private static boolean trickleLogin(URI base, int seconds) {
+        long pause = Math.max(1, seconds * 200L / SLOW_BODY.length);
+        try (Socket socket = new Socket(base.getHost(), base.getPort())) {
+            socket.setSoTimeout(60_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST " + base.getPath() + "/auth/login HTTP/1.1\r\nHost: " + base.getHost()
+                + "\r\nContent-Type: application/json\r\nContent-Length: " + SLOW_BODY.length
+                + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            for (byte b : SLOW_BODY) {
+                out.write(b);
+                out.flush();
+                Thread.sleep(pause);
+            }
+            InputStream in = socket.getInputStream();
+            in.readAllBytes();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static double percentile(List<Long> sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+}
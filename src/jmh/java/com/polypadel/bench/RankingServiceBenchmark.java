@@ -0,0 +1,68 @@
+package com.polypadel.bench;
+
+import com.polypadel.dto.RankingRow;
+import com.polypadel.model.Match;
+import com.polypadel.model.MatchStatus;
+import com.polypadel.repository.MatchRepository;
+import com.polypadel.service.RankingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Standings: the first load from every finished match, the snapshot served afterwards, and one score correction
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingServiceBenchmark {
+    @Param({"50", "500"})
+    private int pools;
+
+    private MatchRepository matchRepository;
+    private PlatformTransactionManager transactionManager;
+    private RankingService loaded;
+    private Long matchId;
+    private RankingService.Outcome outcome;
+    private RankingService.Outcome corrected;
+    private boolean flipped;
+
+    @Setup
+    public void setup() {
+        SyntheticData data = new SyntheticData(20, pools);
+        matchRepository = mock(MatchRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(data.matches);
+        loaded = new RankingService(matchRepository, null, transactionManager);
+        loaded.getRankings();
+
+        Match match = data.matches.get(0);
+        matchId = match.getId();
+        outcome = RankingService.outcomeOf(match);
+        corrected = new RankingService.Outcome(outcome.company1(), outcome.company2(),
+            outcome.sets2(), outcome.sets1(), outcome.winner() == 1 ? 2 : 1);
+    }
+
+    @Benchmark
+    public List<RankingRow> load() {
+        return new RankingService(matchRepository, null, transactionManager).getRankings();
+    }
+
+    @Benchmark
+    public List<RankingRow> snapshot() {
+        return loaded.getRankings();
+    }
+
+    @Benchmark
+    public List<RankingRow> replace() {
+        flipped = !flipped;
+        loaded.replace(matchId, flipped ? corrected : outcome);
+        return loaded.getRankings();
+    }
+}
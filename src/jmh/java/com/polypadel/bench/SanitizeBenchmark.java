@@ -0,0 +1,33 @@
+package com.polypadel.bench;
+
+import com.polypadel.service.PlayerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// HTML stripping applied to every name written by the player, profile and import endpoints
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizeBenchmark {
+    private static final int SIZE = 1024;
+
+    private final String[] names = new String[SIZE];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SyntheticData data = new SyntheticData(1, 0);
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = data.name();
+        }
+    }
+
+    @Benchmark
+    public String sanitize() {
+        return PlayerService.sanitize(names[next++ & (SIZE - 1)]);
+    }
+}
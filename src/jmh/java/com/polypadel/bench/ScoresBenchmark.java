@@ -0,0 +1,44 @@
+package com.polypadel.bench;
+
+import com.polypadel.model.Match;
+import com.polypadel.service.Scores;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Score parsing and winner/sets derivation, run on every match write
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoresBenchmark {
+    private static final int SIZE = 1024;
+
+    private final String[][] scores = new String[SIZE][];
+    private final Match match = new Match();
+    private int next;
+
+    @Setup
+    public void setup() {
+        SyntheticData data = new SyntheticData(1, 0);
+        for (int i = 0; i < SIZE; i++) {
+            scores[i] = data.score();
+        }
+    }
+
+    @Benchmark
+    public int parse() {
+        return Scores.parse(scores[next++ & (SIZE - 1)][0]);
+    }
+
+    @Benchmark
+    public Integer apply() {
+        String[] score = scores[next++ & (SIZE - 1)];
+        match.setScoreTeam1(score[0]);
+        match.setScoreTeam2(score[1]);
+        Scores.apply(match);
+        return match.getWinner();
+    }
+}
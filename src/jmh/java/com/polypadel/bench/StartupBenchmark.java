@@ -0,0 +1,104 @@
+package com.polypadel.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Time from launching the JVM to the first UP from /actuator/health, for the plain jar, the jar with its
+// AOT-processed context, and the extracted jar with AOT plus a class data sharing archive. Needs the aot build:
+//
+//   mvn -Paot -DskipTests package
+//   mvn -Pjmh -DskipTests test-compile exec:exec -Djmh.main=com.polypadel.bench.StartupBenchmark \
+//       -Djmh.args="target/polypadel-backend-1.0.0.jar 5"
+//
+// Each configuration gets one untimed start first, so the database is migrated and the files are in the page cache.
+public final class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(args.length > 0 ? args[0] : "target/polypadel-backend-1.0.0.jar").toAbsolutePath();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Path work = Files.createTempDirectory("polypadel-startup");
+        String database = "--spring.datasource.url=jdbc:sqlite:" + work.resolve("startup.db");
+
+        Path extracted = work.resolve("extracted");
+        run(work, List.of(java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", extracted.toString(),
+            "--application-filename", "app.jar"));
+        Path archive = extracted.resolve("app.jsa");
+        run(work, List.of(java, "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.aot.enabled=true",
+            "-Dspring.context.exit=onRefresh", "-jar", extracted.resolve("app.jar").toString(), database));
+
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("jar", List.of("-jar", jar.toString()));
+        configurations.put("aot", List.of("-Dspring.aot.enabled=true", "-jar", jar.toString()));
+        configurations.put("aot + cds", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+            "-jar", extracted.resolve("app.jar").toString()));
+
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+            List<String> command = new ArrayList<>(List.of(java));
+            command.addAll(configuration.getValue());
+            command.add(database);
+            start(http, work, command);
+            List<Long> times = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                times.add(start(http, work, command));
+            }
+            Collections.sort(times);
+            System.out.printf("%-10s median %5d ms, min %5d ms, max %5d ms%n",
+                configuration.getKey(), times.get(times.size() / 2), times.get(0), times.get(times.size() - 1));
+        }
+    }
+
+    // Milliseconds until the health endpoint answers 200, then stops the process
+    private static long start(HttpClient http, Path work, List<String> command) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> withPort = new ArrayList<>(command);
+        withPort.add("--server.port=" + port);
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/actuator/health")).build();
+
+        long begin = System.nanoTime();
+        Process process = new ProcessBuilder(withPort).directory(work.toFile())
+            .redirectErrorStream(true).redirectOutput(work.resolve("app.log").toFile()).start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Le serveur s'est arrêté au démarrage, voir " + work.resolve("app.log"));
+                }
+                try {
+                    if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - begin) / 1_000_000;
+                    }
+                } catch (IOException notListeningYet) {
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void run(Path work, List<String> command) throws Exception {
+        File log = work.resolve("prepare.log").toFile();
+        int exit = new ProcessBuilder(command).directory(work.toFile()).redirectErrorStream(true).redirectOutput(log).start().waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Échec de " + String.join(" ", command) + ", voir " + log);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.polypadel.bench;
+
+import com.polypadel.model.*;
+import com.polypadel.service.Scores;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Season data for the benchmarks, built in memory from a fixed seed so every run measures the same input
+public final class SyntheticData {
+    public static final long SEED = 2025L;
+
+    private static final String[] FIRST_NAMES = {"Anne", "Jean", "Paul", "Marie", "Luc", "Sophie", "Marc", "Julie", "Hugo", "Léa"};
+    private static final String[] LAST_NAMES = {"Martin", "Bernard", "Dubois", "Thomas", "Robert", "Petit", "Durand", "Leroy", "Moreau", "Simon"};
+
+    public final List<Player> players = new ArrayList<>();
+    public final List<Pool> pools = new ArrayList<>();
+    public final List<Team> teams = new ArrayList<>();
+    public final List<Match> matches = new ArrayList<>();
+
+    private final Random random = new Random(SEED);
+
+    // Pools of six teams from `companies` companies; every pool plays its full round-robin, all matches finished
+    public SyntheticData(int companies, int poolCount) {
+        long id = 1;
+        for (int p = 0; p < poolCount; p++) {
+            Pool pool = new Pool();
+            pool.setId((long) p + 1);
+            pool.setName("Poule " + (p + 1));
+            pools.add(pool);
+            for (int t = 0; t < 6; t++) {
+                String company = "Entreprise " + random.nextInt(companies);
+                Team team = new Team();
+                team.setId(id++);
+                team.setCompany(company);
+                team.setPlayer1(player(company));
+                team.setPlayer2(player(company));
+                team.setPool(pool);
+                teams.add(team);
+            }
+        }
+
+        LocalDate date = LocalDate.of(2025, 9, 1);
+        for (int p = 0; p < poolCount; p++) {
+            List<Team> pool = teams.subList(p * 6, p * 6 + 6);
+            Event event = new Event();
+            event.setEventDate(date.plusDays(p % 200));
+            event.setEventTime(LocalTime.of(19, 0));
+            for (int i = 0; i < pool.size(); i++) {
+                for (int j = i + 1; j < pool.size(); j++) {
+                    Match match = new Match();
+                    match.setId((long) matches.size() + 1);
+                    match.setEvent(event);
+                    match.setTeam1(pool.get(i));
+                    match.setTeam2(pool.get(j));
+                    match.setCourtNumber(1 + matches.size() % 3);
+                    match.setStatus(MatchStatus.TERMINE);
+                    String[] score = score();
+                    match.setScoreTeam1(score[0]);
+                    match.setScoreTeam2(score[1]);
+                    Scores.apply(match);
+                    matches.add(match);
+                }
+            }
+        }
+    }
+
+    // Two or three sets, each side written from its own point of view ("6-4, 3-6" / "4-6, 6-3")
+    public String[] score() {
+        int sets = 2 + random.nextInt(2);
+        StringBuilder side1 = new StringBuilder();
+        StringBuilder side2 = new StringBuilder();
+        for (int s = 0; s < sets; s++) {
+            int winner = random.nextInt(7);
+            int loser = random.nextInt(5);
+            boolean firstWins = random.nextBoolean();
+            int g1 = firstWins ? 6 + winner / 6 : loser;
+            int g2 = firstWins ? loser : 6 + winner / 6;
+            if (s > 0) {
+                side1.append(", ");
+                side2.append(", ");
+            }
+            side1.append(g1).append('-').append(g2);
+            side2.append(g2).append('-').append(g1);
+        }
+        return new String[]{side1.toString(), side2.toString()};
+    }
+
+    // Names as typed in forms, some with markup for the sanitizer to strip
+    public String name() {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return switch (random.nextInt(4)) {
+            case 0 -> "<b>" + name + "</b>";
+            case 1 -> "  " + name + "<script>alert(1)</script> ";
+            default -> name;
+        };
+    }
+
+    private Player player(String company) {
+        Player player = new Player();
+        player.setId((long) players.size() + 1);
+        player.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        player.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        player.setCompany(company);
+        player.setLicenseNumber(String.format("L%06d", players.size() + 1));
+        players.add(player);
+        return player;
+    }
+}
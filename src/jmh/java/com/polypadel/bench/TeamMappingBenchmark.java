@@ -0,0 +1,35 @@
+package com.polypadel.bench;
+
+import com.polypadel.dto.TeamResponse;
+import com.polypadel.model.Team;
+import com.polypadel.service.TeamService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Entity to DTO mapping behind the team, pool and match responses, for one page of teams
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamMappingBenchmark {
+    @Param({"6", "100"})
+    private int teams;
+
+    private TeamService teamService;
+    private List<Team> page;
+
+    @Setup
+    public void setup() {
+        teamService = new TeamService(null, null, null, null, null);
+        page = new SyntheticData(20, (teams + 5) / 6).teams.subList(0, teams);
+    }
+
+    @Benchmark
+    public List<TeamResponse> toResponse() {
+        return page.stream().map(teamService::toResponse).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.polypadel.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteConfig;
+import javax.sql.DataSource;
+import java.util.Map;
+
+// SQLite allows a single writer: one connection for writes, a read-only pool for @Transactional(readOnly = true), both in WAL mode
+@Configuration
+public class DataSourceConfig {
+    private final String url;
+    private final int busyTimeoutMs;
+    private final long mmapSize;
+
+    public DataSourceConfig(@Value("${spring.datasource.url}") String url,
+                            @Value("${app.datasource.busy-timeout-ms}") int busyTimeoutMs,
+                            @Value("${app.datasource.mmap-size}") long mmapSize) {
+        this.url = url;
+        this.busyTimeoutMs = busyTimeoutMs;
+        this.mmapSize = mmapSize;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writerDataSource() {
+        SQLiteConfig config = sqliteConfig();
+        // Persistent for the database file; readers cannot switch it themselves
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        return pool("sqlite-writer", 1, false, config);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource readerDataSource(@Qualifier("writerDataSource") HikariDataSource writer,
+                                            @Value("${app.datasource.reader-pool-size}") int size) {
+        // Depends on the writer so the database is already in WAL mode when readers open it
+        SQLiteConfig config = sqliteConfig();
+        config.setReadOnly(true);
+        return pool("sqlite-reader", size, true, config);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writer,
+                                 @Qualifier("readerDataSource") DataSource reader,
+                                 QueryMonitor queryMonitor) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? "reader" : "writer";
+            }
+        };
+        routing.setTargetDataSources(Map.of("writer", writer, "reader", reader));
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+        // The connection is only fetched on the first statement, once the transaction's read-only flag is known
+        return ProxyDataSourceBuilder.create("sqlite", new LazyConnectionDataSourceProxy(routing))
+            .listener(queryMonitor)
+            .build();
+    }
+
+    private SQLiteConfig sqliteConfig() {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setBusyTimeout(busyTimeoutMs);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSize));
+        return config;
+    }
+
+    private HikariDataSource pool(String name, int size, boolean readOnly, SQLiteConfig sqlite) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setDriverClassName("org.sqlite.JDBC");
+        config.setMaximumPoolSize(size);
+        config.setDataSourceProperties(sqlite.toProperties());
+        // Hikari resets the flag on every connection and sqlite-jdbc refuses to change it, so both must agree
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,93 @@
+package com.polypadel.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Counts the statements of each request, authentication included, and sends the count as X-SQL-Count
+// unless app.sql.count-header is off (prod profile)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-SQL-Count";
+
+    private final QueryMonitor queryMonitor;
+    private final boolean countHeader;
+
+    public QueryCountFilter(QueryMonitor queryMonitor, @Value("${app.sql.count-header}") boolean countHeader) {
+        this.queryMonitor = queryMonitor;
+        this.countHeader = countHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        queryMonitor.begin();
+        try {
+            if (!countHeader) {
+                chain.doFilter(request, response);
+                return;
+            }
+            CountingResponse counting = new CountingResponse(response);
+            chain.doFilter(request, counting);
+            counting.writeHeader();
+        } finally {
+            queryMonitor.end(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+
+    // Headers cannot change once the body starts, so the count is taken when the body is first opened
+    private final class CountingResponse extends HttpServletResponseWrapper {
+        private boolean written;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (written || isCommitted()) return;
+            written = true;
+            setHeader(HEADER, String.valueOf(queryMonitor.count()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+    }
+}
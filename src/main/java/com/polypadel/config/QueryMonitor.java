@@ -0,0 +1,75 @@
+package com.polypadel.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Sees every statement sent through the application DataSource: logs the slow ones with their parameters
+// and counts those run by the current HTTP request (QueryCountFilter), on the request thread only
+@Component
+public class QueryMonitor implements QueryExecutionListener {
+    private static final Logger log = LoggerFactory.getLogger(QueryMonitor.class);
+
+    private final long slowQueryMs;
+    private final int repeatWarning;
+    private final DefaultQueryLogEntryCreator logEntries = new DefaultQueryLogEntryCreator();
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    public QueryMonitor(@Value("${app.sql.slow-query-ms}") long slowQueryMs,
+                        @Value("${app.sql.repeat-warning}") int repeatWarning) {
+        this.slowQueryMs = slowQueryMs;
+        this.repeatWarning = repeatWarning;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        if (execInfo.getElapsedTime() >= slowQueryMs) {
+            log.warn("Requête SQL lente: {}", logEntries.getLogEntry(execInfo, queries, false, false, false));
+        }
+        Counts counts = current.get();
+        if (counts == null) return;
+        counts.total++;
+        // A JDBC batch is one round trip, and repeating it is how batching works, not an N+1
+        if (!execInfo.isBatch() && queries.size() == 1) {
+            counts.bySql.merge(queries.get(0).getQuery(), 1, Integer::sum);
+        }
+    }
+
+    public void begin() {
+        current.set(new Counts());
+    }
+
+    // Statements run since begin(), 0 outside a request
+    public int count() {
+        Counts counts = current.get();
+        return counts == null ? 0 : counts.total;
+    }
+
+    public void end(String request) {
+        Counts counts = current.get();
+        current.remove();
+        if (counts == null) return;
+        counts.bySql.forEach((sql, times) -> {
+            if (times >= repeatWarning) {
+                log.warn("N+1 probable sur {}: {} exécutions de {}", request, times, sql);
+            }
+        });
+    }
+
+    private static final class Counts {
+        int total;
+        final Map<String, Integer> bySql = new HashMap<>();
+    }
+}
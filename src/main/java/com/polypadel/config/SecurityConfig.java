@@ -1,9 +1,14 @@
 package com.polypadel.config;
 
 import com.polypadel.security.JwtFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,10 +16,13 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.List;
 
 @Configuration
@@ -22,9 +30,12 @@ import java.util.List;
 @EnableMethodSecurity
 public class SecurityConfig {
     private final JwtFilter jwtFilter;
+    private final byte[] scrapeAuthorization;
 
-    public SecurityConfig(JwtFilter jwtFilter) {
+    public SecurityConfig(JwtFilter jwtFilter, @Value("${app.metrics.scrape-token}") String scrapeToken) {
         this.jwtFilter = jwtFilter;
+        this.scrapeAuthorization = scrapeToken.isBlank() ? null
+            : ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
     }
 
     @Bean
@@ -33,7 +44,11 @@ public class SecurityConfig {
             .csrf(c -> c.disable())
             .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/auth/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").access(adminOrScraper())
+                .requestMatchers("/actuator/**").hasRole("ADMINISTRATEUR")
                 .requestMatchers(HttpMethod.GET, "/events/**", "/matches/**", "/results/**", "/pools/**", "/teams/**").authenticated()
                 .requestMatchers("/admin/**").hasRole("ADMINISTRATEUR")
                 .requestMatchers(HttpMethod.POST, "/players/**", "/teams/**", "/pools/**", "/events/**", "/matches/**").hasRole("ADMINISTRATEUR")
@@ -50,6 +65,19 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    // A Prometheus server cannot log in: it sends the configured scrape token as its bearer token
+    private AuthorizationManager<RequestAuthorizationContext> adminOrScraper() {
+        AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMINISTRATEUR");
+        return (authentication, context) -> {
+            String header = context.getRequest().getHeader("Authorization");
+            if (scrapeAuthorization != null && header != null
+                    && MessageDigest.isEqual(scrapeAuthorization, header.getBytes(StandardCharsets.UTF_8))) {
+                return new AuthorizationDecision(true);
+            }
+            return admin.check(authentication, context);
+        };
+    }
+
     private CorsConfigurationSource corsSource() {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:5174", "http://127.0.0.1:5173", "http://127.0.0.1:5174"));
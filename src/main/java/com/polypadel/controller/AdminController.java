@@ -1,18 +1,24 @@
 package com.polypadel.controller;
 
+import com.polypadel.dto.ImportReport;
 import com.polypadel.service.AdminService;
+import com.polypadel.service.ImportService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/admin")
 public class AdminController {
     private final AdminService adminService;
+    private final ImportService importService;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, ImportService importService) {
         this.adminService = adminService;
+        this.importService = importService;
     }
 
     @PostMapping("/accounts/create")
@@ -26,4 +32,14 @@ public class AdminController {
     public ResponseEntity<AdminService.CreateAccountResponse> resetPassword(@PathVariable Long userId) {
         return ResponseEntity.ok(adminService.resetPassword(userId));
     }
+
+    @PostMapping(path = "/import/players", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReport> importPlayers(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(importService.importPlayers(file));
+    }
+
+    @PostMapping(path = "/import/teams", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportReport> importTeams(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(importService.importTeams(file));
+    }
 }
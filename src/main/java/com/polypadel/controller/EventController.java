@@ -1,32 +1,39 @@
 package com.polypadel.controller;
 
 import com.polypadel.dto.*;
+import com.polypadel.service.DataVersion;
 import com.polypadel.service.EventService;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/events")
 public class EventController {
     private final EventService eventService;
+    private final DataVersion dataVersion;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, DataVersion dataVersion) {
         this.eventService = eventService;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> findAll(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) String month) {
-        List<EventResponse> events = eventService.findAll(startDate, endDate, month);
-        return ResponseEntity.ok(Map.of("events", events));
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) return null;
+        CursorPage<EventResponse> events = eventService.findAll(startDate, endDate, month, limit, after);
+        return ResponseEntity.ok(events.body("events"));
     }
 
     @GetMapping("/{id}")
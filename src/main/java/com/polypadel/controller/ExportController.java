@@ -0,0 +1,47 @@
+package com.polypadel.controller;
+
+import com.polypadel.model.MatchStatus;
+import com.polypadel.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// The body is written on an async thread once the headers are sent (see spring.mvc.async.request-timeout)
+@RestController
+@RequestMapping("/admin/export")
+public class ExportController {
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<StreamingResponseBody> matches(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = ExportService.Format.of(format);
+        return export("matches", f, out -> exportService.matches(null, f, out));
+    }
+
+    @GetMapping("/results")
+    public ResponseEntity<StreamingResponseBody> results(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = ExportService.Format.of(format);
+        return export("results", f, out -> exportService.matches(MatchStatus.TERMINE, f, out));
+    }
+
+    @GetMapping("/rankings")
+    public ResponseEntity<StreamingResponseBody> rankings(@RequestParam(defaultValue = "csv") String format) {
+        ExportService.Format f = ExportService.Format.of(format);
+        return export("rankings", f, out -> exportService.rankings(f, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportService.Format format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + "." + format.extension()).build().toString())
+            .body(body);
+    }
+}
@@ -2,31 +2,44 @@ package com.polypadel.controller;
 
 import com.polypadel.dto.*;
 import com.polypadel.model.User;
+import com.polypadel.service.LiveUpdateService;
 import com.polypadel.service.MatchService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/matches")
 public class MatchController {
     private final MatchService matchService;
+    private final LiveUpdateService liveUpdateService;
 
-    public MatchController(MatchService matchService) {
+    public MatchController(MatchService matchService, LiveUpdateService liveUpdateService) {
         this.matchService = matchService;
+        this.liveUpdateService = liveUpdateService;
     }
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> findUpcoming(
             @RequestParam(required = false) Long teamId,
             @RequestParam(required = false) Boolean myMatches,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
             @AuthenticationPrincipal User user) {
-        List<MatchResponse> matches = matchService.findUpcoming(teamId, myMatches, user);
-        return ResponseEntity.ok(Map.of("matches", matches, "total", matches.size()));
+        CursorPage<MatchResponse> matches = matchService.findUpcoming(teamId, myMatches, user, limit, after);
+        Map<String, Object> body = matches.body("matches");
+        body.put("count", matches.items().size());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return liveUpdateService.subscribe(LiveUpdateService.Channel.MATCHES);
     }
 
     @GetMapping("/{id}")
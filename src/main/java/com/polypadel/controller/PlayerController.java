@@ -6,7 +6,6 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,9 +18,13 @@ public class PlayerController {
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> findAll() {
-        List<PlayerResponse> players = playerService.findAll();
-        return ResponseEntity.ok(Map.of("players", players, "total", players.size()));
+    public ResponseEntity<Map<String, Object>> findAll(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after) {
+        CursorPage<PlayerResponse> players = playerService.findAll(limit, after);
+        Map<String, Object> body = players.body("players");
+        body.put("count", players.items().size());
+        return ResponseEntity.ok(body);
     }
 
     @GetMapping("/{id}")
@@ -1,11 +1,14 @@
 package com.polypadel.controller;
 
 import com.polypadel.dto.*;
+import com.polypadel.service.DataVersion;
 import com.polypadel.service.PoolService;
+import com.polypadel.service.ScheduleService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 import java.util.Map;
 
@@ -13,15 +16,24 @@ import java.util.Map;
 @RequestMapping("/pools")
 public class PoolController {
     private final PoolService poolService;
+    private final ScheduleService scheduleService;
+    private final DataVersion dataVersion;
 
-    public PoolController(PoolService poolService) {
+    public PoolController(PoolService poolService, ScheduleService scheduleService, DataVersion dataVersion) {
         this.poolService = poolService;
+        this.scheduleService = scheduleService;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> findAll() {
-        List<PoolResponse> pools = poolService.findAll();
-        return ResponseEntity.ok(Map.of("pools", pools));
+    public ResponseEntity<Map<String, Object>> findAll(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            WebRequest request) {
+        // The 304 is already written when the client's copy is current
+        if (request.checkNotModified(dataVersion.etag())) return null;
+        CursorPage<PoolResponse> pools = poolService.findAll(limit, after);
+        return ResponseEntity.ok(pools.body("pools"));
     }
 
     @GetMapping("/{id}")
@@ -34,6 +46,12 @@ public class PoolController {
         return ResponseEntity.status(HttpStatus.CREATED).body(poolService.create(request));
     }
 
+    @PostMapping("/{id}/schedule")
+    public ResponseEntity<Map<String, Object>> schedule(@PathVariable Long id, @Valid @RequestBody ScheduleRequest request) {
+        List<EventResponse> events = scheduleService.schedule(id, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("events", events));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PoolResponse> update(@PathVariable Long id, @Valid @RequestBody PoolRequest request) {
         return ResponseEntity.ok(poolService.update(id, request));
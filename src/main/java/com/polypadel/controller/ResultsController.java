@@ -3,11 +3,16 @@ package com.polypadel.controller;
 import com.polypadel.dto.RankingRow;
 import com.polypadel.dto.MyResultsResponse;
 import com.polypadel.model.User;
+import com.polypadel.service.DataVersion;
+import com.polypadel.service.LiveUpdateService;
 import com.polypadel.service.RankingService;
 import com.polypadel.service.ResultsService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.Map;
 
@@ -16,18 +21,29 @@ import java.util.Map;
 public class ResultsController {
     private final RankingService rankingService;
     private final ResultsService resultsService;
+    private final LiveUpdateService liveUpdateService;
+    private final DataVersion dataVersion;
 
-    public ResultsController(RankingService rankingService, ResultsService resultsService) {
+    public ResultsController(RankingService rankingService, ResultsService resultsService,
+                             LiveUpdateService liveUpdateService, DataVersion dataVersion) {
         this.rankingService = rankingService;
         this.resultsService = resultsService;
+        this.liveUpdateService = liveUpdateService;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping("/rankings")
-    public ResponseEntity<Map<String, Object>> getRankings() {
+    public ResponseEntity<Map<String, Object>> getRankings(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) return null;
         List<RankingRow> rankings = rankingService.getRankings();
         return ResponseEntity.ok(Map.of("rankings", rankings));
     }
 
+    @GetMapping(path = "/rankings/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRankings() {
+        return liveUpdateService.subscribe(LiveUpdateService.Channel.RANKINGS, "rankings", rankingService.getRankings());
+    }
+
     @GetMapping("/my-results")
     public ResponseEntity<MyResultsResponse> getMyResults(@AuthenticationPrincipal User user) {
         return ResponseEntity.ok(resultsService.getMyResults(user));
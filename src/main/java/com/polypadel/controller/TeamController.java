@@ -1,29 +1,38 @@
 package com.polypadel.controller;
 
 import com.polypadel.dto.*;
+import com.polypadel.service.DataVersion;
 import com.polypadel.service.TeamService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/teams")
 public class TeamController {
     private final TeamService teamService;
+    private final DataVersion dataVersion;
 
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, DataVersion dataVersion) {
         this.teamService = teamService;
+        this.dataVersion = dataVersion;
     }
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> findAll(
             @RequestParam(required = false) Long poolId,
-            @RequestParam(required = false) String company) {
-        List<TeamResponse> teams = teamService.findAll(poolId, company);
-        return ResponseEntity.ok(Map.of("teams", teams, "total", teams.size()));
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag())) return null;
+        CursorPage<TeamResponse> teams = teamService.findAll(poolId, company, limit, after);
+        Map<String, Object> body = teams.body("teams");
+        body.put("count", teams.items().size());
+        return ResponseEntity.ok(body);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,15 @@
+package com.polypadel.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    // Response body under the endpoint's usual key; nextCursor is null on the last page
+    public Map<String, Object> body(String key) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(key, items);
+        body.put("nextCursor", nextCursor);
+        return body;
+    }
+}
@@ -0,0 +1,11 @@
+package com.polypadel.dto;
+
+import java.util.List;
+
+public record ImportReport(
+    int rows,
+    int imported,
+    List<RowError> errors
+) {
+    public record RowError(int line, String message) {}
+}
@@ -0,0 +1,24 @@
+package com.polypadel.dto;
+
+import com.polypadel.model.MatchStatus;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record MatchExportRow(
+    Long matchId,
+    LocalDate date,
+    LocalTime time,
+    Integer courtNumber,
+    MatchStatus status,
+    Long team1Id,
+    String company1,
+    String team1Players,
+    Long team2Id,
+    String company2,
+    String team2Players,
+    String scoreTeam1,
+    String scoreTeam2,
+    Integer setsTeam1,
+    Integer setsTeam2,
+    Integer winner
+) {}
@@ -0,0 +1,23 @@
+package com.polypadel.dto;
+
+import java.time.LocalDate;
+
+public record PlayerMatchRow(
+    Long matchId,
+    LocalDate date,
+    Integer courtNumber,
+    Integer mySide,
+    String scoreTeam1,
+    String scoreTeam2,
+    Integer winner,
+    String company1,
+    String team1Player1FirstName,
+    String team1Player1LastName,
+    String team1Player2FirstName,
+    String team1Player2LastName,
+    String company2,
+    String team2Player1FirstName,
+    String team2Player1LastName,
+    String team2Player2FirstName,
+    String team2Player2LastName
+) {}
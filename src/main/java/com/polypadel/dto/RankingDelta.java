@@ -0,0 +1,28 @@
+package com.polypadel.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Rows of the standings that differ from the ones sent before (position, points or any count), and the companies
+// no longer ranked; clients replace rows by company
+public record RankingDelta(List<RankingRow> changed, List<String> removed) {
+    public static RankingDelta between(List<RankingRow> before, List<RankingRow> after) {
+        Map<String, RankingRow> previous = new HashMap<>();
+        for (RankingRow row : before) {
+            previous.put(row.company(), row);
+        }
+        List<RankingRow> changed = new ArrayList<>();
+        for (RankingRow row : after) {
+            if (!row.equals(previous.remove(row.company()))) {
+                changed.add(row);
+            }
+        }
+        return new RankingDelta(changed, List.copyOf(previous.keySet()));
+    }
+
+    public boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,12 @@
+package com.polypadel.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ScheduleRequest(
+    @NotNull @FutureOrPresent LocalDate startDate,
+    @NotNull LocalTime eventTime,
+    @Min(1) @Max(3) Integer courts,
+    @Min(1) @Max(28) Integer intervalDays
+) {}
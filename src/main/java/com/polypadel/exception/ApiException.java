@@ -0,0 +1,51 @@
+package com.polypadel.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// Expected business errors: unknown ids, conflicts, invalid input, refused logins. They are answered as they are
+// and never logged, so they skip the stack trace, which costs more to capture than the rest of the error path.
+// Failures worth a stack trace (I/O, bugs) keep using ResponseStatusException or propagate as they are.
+// The problem body is not shared between errors: ResponseStatusException builds it in its constructor and MVC
+// writes the request path into it, so the handler sends that one rather than a copy of a common template.
+public class ApiException extends ResponseStatusException {
+
+    public ApiException(HttpStatus status, String reason) {
+        super(status, reason);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+
+    public static final class BadRequest extends ApiException {
+        public BadRequest(String reason) {
+            super(HttpStatus.BAD_REQUEST, reason);
+        }
+    }
+
+    public static final class Unauthorized extends ApiException {
+        public Unauthorized(String reason) {
+            super(HttpStatus.UNAUTHORIZED, reason);
+        }
+    }
+
+    public static final class Forbidden extends ApiException {
+        public Forbidden(String reason) {
+            super(HttpStatus.FORBIDDEN, reason);
+        }
+    }
+
+    public static final class NotFound extends ApiException {
+        public NotFound(String reason) {
+            super(HttpStatus.NOT_FOUND, reason);
+        }
+    }
+
+    public static final class Conflict extends ApiException {
+        public Conflict(String reason) {
+            super(HttpStatus.CONFLICT, reason);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.polypadel.model;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// IDENTITY ids are only known after each INSERT, which rules out JDBC batching. This hands out ids from
+// blocks of allocationSize reserved in id_blocks. The reservation runs on the current transaction's
+// connection: a separate one, as Hibernate's table generators use, would wait on the single SQLite writer.
+// Until that transaction commits, its block belongs to the reserving session alone: if it rolls back,
+// next_val goes back down and the block is handed out again, so no other session may have used it.
+// Committed blocks are shared by every session.
+public class BlockIdGenerator implements IdentifierGenerator {
+    private static final String RESERVE = "UPDATE id_blocks SET next_val = next_val + ? WHERE name = ?";
+    private static final String READ = "SELECT next_val FROM id_blocks WHERE name = ?";
+
+    private final String name;
+    private final int allocationSize;
+    // Not a monitor: a virtual thread blocked inside synchronized pins its carrier. Only guards the blocks in
+    // memory, the reservation itself runs unlocked since it can wait on another transaction holding the writer.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<SharedSessionContractImplementor, Block> pending = new IdentityHashMap<>();
+    private Block shared;
+
+    public BlockIdGenerator(BlockId config) {
+        this.name = config.value();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        lock.lock();
+        try {
+            Block own = pending.get(session);
+            if (own != null && own.next < own.end) return own.next++;
+            if (shared != null && shared.next < shared.end) return shared.next++;
+        } finally {
+            lock.unlock();
+        }
+
+        Block reserved = reserve(session);
+        session.asEventSource().getActionQueue().registerProcess((success, s) -> completed(session, reserved, success));
+        lock.lock();
+        try {
+            pending.put(session, reserved);
+            return reserved.next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void completed(SharedSessionContractImplementor session, Block reserved, boolean success) {
+        lock.lock();
+        try {
+            pending.remove(session, reserved);
+            if (success && reserved.next < reserved.end && (shared == null || shared.next >= shared.end)) {
+                shared = reserved;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Block reserve(SharedSessionContractImplementor session) {
+        JdbcCoordinator jdbc = session.getJdbcCoordinator();
+        try {
+            PreparedStatement update = jdbc.getStatementPreparer().prepareStatement(RESERVE);
+            try {
+                update.setInt(1, allocationSize);
+                update.setString(2, name);
+                if (jdbc.getResultSetReturn().executeUpdate(update, RESERVE) != 1) {
+                    throw new HibernateException("No id_blocks row for " + name);
+                }
+            } finally {
+                release(jdbc, update);
+            }
+            PreparedStatement select = jdbc.getStatementPreparer().prepareStatement(READ);
+            try {
+                select.setString(1, name);
+                ResultSet rs = jdbc.getResultSetReturn().extract(select, READ);
+                rs.next();
+                long end = rs.getLong(1);
+                return new Block(end - allocationSize, end);
+            } finally {
+                release(jdbc, select);
+            }
+        } catch (SQLException e) {
+            throw new HibernateException("Could not reserve ids for " + name, e);
+        }
+    }
+
+    private static void release(JdbcCoordinator jdbc, PreparedStatement statement) {
+        jdbc.getLogicalConnection().getResourceRegistry().release(statement);
+        jdbc.afterStatementExecution();
+    }
+
+    private static final class Block {
+        long next;
+        final long end;
+
+        Block(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+    }
+}
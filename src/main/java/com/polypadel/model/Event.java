@@ -9,10 +9,25 @@ import java.util.List;
 
 @Entity
 @Table(name = "events")
+@NamedEntityGraph(
+    name = "Event.matchDetails",
+    attributeNodes = @NamedAttributeNode(value = "matches", subgraph = "match"),
+    subgraphs = {
+        @NamedSubgraph(name = "match", attributeNodes = {
+            @NamedAttributeNode(value = "team1", subgraph = "team"),
+            @NamedAttributeNode(value = "team2", subgraph = "team")
+        }),
+        @NamedSubgraph(name = "team", attributeNodes = {
+            @NamedAttributeNode("player1"),
+            @NamedAttributeNode("player2"),
+            @NamedAttributeNode("pool")
+        })
+    }
+)
 @Data
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId("events")
     private Long id;
 
     @Column(nullable = false)
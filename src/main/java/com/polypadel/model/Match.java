@@ -8,7 +8,7 @@ import lombok.Data;
 @Data
 public class Match {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId("matches")
     private Long id;
 
     @ManyToOne
@@ -32,4 +32,11 @@ public class Match {
 
     private String scoreTeam1;
     private String scoreTeam2;
+
+    // Derived from the score strings on write (see Scores): packed games per set, sets won, winning side (0 = none)
+    private Integer gamesTeam1;
+    private Integer gamesTeam2;
+    private Integer setsTeam1;
+    private Integer setsTeam2;
+    private Integer winner;
 }
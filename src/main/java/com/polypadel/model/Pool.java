@@ -2,20 +2,24 @@ package com.polypadel.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "pools")
 @Data
 public class Pool {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId("pools")
     private Long id;
 
     @Column(unique = true, nullable = false)
     private String name;
 
+    // Not in the second-level cache: Team.pool owns the relation and changing it would not evict this collection
     @OneToMany(mappedBy = "pool")
     private List<Team> teams = new ArrayList<>();
 }
@@ -2,18 +2,32 @@ package com.polypadel.repository;
 
 import com.polypadel.model.Event;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
+    // Keyset page ordered by (date, id) after the cursor's row; the graph is then loaded for those ids only, since a
+    // row limit cannot be applied to a query that fetches the matches collection
     @Query(
-        "SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.matches WHERE e.eventDate BETWEEN :start AND :end"
+        "SELECT e.id FROM Event e WHERE e.eventDate BETWEEN :start AND :end " +
+        "AND (e.eventDate >= :dayAfter OR (e.eventDate >= :afterDate AND e.id > :afterId)) " +
+        "ORDER BY e.eventDate, e.id"
     )
-    List<Event> findByEventDateBetween(LocalDate start, LocalDate end);
+    List<Long> findPageIds(LocalDate start, LocalDate end, LocalDate afterDate, LocalDate dayAfter, Long afterId, Limit limit);
 
-    @Query("SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.matches")
-    List<Event> findAllWithMatches();
+    // Event.matchDetails loads what EventService.toResponse reads in the same statement as the events
+    @EntityGraph("Event.matchDetails")
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids ORDER BY e.eventDate, e.id")
+    List<Event> findWithMatchesByIdIn(Collection<Long> ids);
+
+    @Override
+    @EntityGraph("Event.matchDetails")
+    Optional<Event> findById(Long id);
 
     List<Event> findByEventDateGreaterThanEqualOrderByEventDateAsc(
         LocalDate date
@@ -2,8 +2,18 @@ package com.polypadel.repository;
 
 import com.polypadel.model.LoginAttempt;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, Long> {
     Optional<LoginAttempt> findByEmail(String email);
+
+    List<LoginAttempt> findByEmailIn(Collection<String> emails);
+
+    // Rows still locked, or with failures recent enough to count towards a lock
+    @Query("SELECT a FROM LoginAttempt a WHERE a.attemptsCount > 0 AND (a.lockedUntil > :now OR (a.lockedUntil IS NULL AND a.lastAttempt > :since))")
+    List<LoginAttempt> findActive(LocalDateTime now, LocalDateTime since);
 }
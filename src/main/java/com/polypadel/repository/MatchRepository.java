@@ -1,21 +1,68 @@
 package com.polypadel.repository;
 
+import com.polypadel.dto.MatchExportRow;
+import com.polypadel.dto.PlayerMatchRow;
 import com.polypadel.model.Match;
 import com.polypadel.model.MatchStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
     List<Match> findByStatus(MatchStatus status);
-    
+
     @Query("SELECT m FROM Match m WHERE m.team1.id = :teamId OR m.team2.id = :teamId")
     List<Match> findByTeamId(Long teamId);
     
-    @Query("SELECT m FROM Match m WHERE m.event.eventDate BETWEEN :start AND :end")
-    List<Match> findByDateRange(LocalDate start, LocalDate end);
+    // Everything MatchService.toResponse reads is fetched in the same statement; userId keeps the matches
+    // of teams the user plays in
+    @Query("SELECT m FROM Match m JOIN FETCH m.event e " +
+           "JOIN FETCH m.team1 t1 JOIN FETCH t1.player1 a1 JOIN FETCH t1.player2 a2 LEFT JOIN FETCH t1.pool " +
+           "JOIN FETCH m.team2 t2 JOIN FETCH t2.player1 b1 JOIN FETCH t2.player2 b2 LEFT JOIN FETCH t2.pool " +
+           "WHERE e.eventDate BETWEEN :start AND :end " +
+           "AND (:teamId IS NULL OR t1.id = :teamId OR t2.id = :teamId) " +
+           "AND (:userId IS NULL OR a1.user.id = :userId OR a2.user.id = :userId " +
+           "OR b1.user.id = :userId OR b2.user.id = :userId) " +
+           "AND (e.eventDate >= :dayAfter OR (e.eventDate >= :afterDate AND m.id > :afterId)) " +
+           "ORDER BY e.eventDate, m.id")
+    List<Match> findUpcomingPage(LocalDate start, LocalDate end, Long teamId, Long userId,
+                                   LocalDate afterDate, LocalDate dayAfter, Long afterId, Limit limit);
     
+    @Query("SELECT COUNT(m) > 0 FROM Match m WHERE m.team1.id IN :teamIds AND m.team2.id IN :teamIds")
+    boolean existsBetweenTeams(Collection<Long> teamIds);
+
     @Query("SELECT m FROM Match m WHERE m.status = 'TERMINE' AND (m.team1.id = :teamId OR m.team2.id = :teamId)")
     List<Match> findCompletedByTeamId(Long teamId);
+
+    @Query("SELECT new com.polypadel.dto.PlayerMatchRow(m.id, e.eventDate, m.courtNumber, " +
+           "CASE WHEN a1.user.id = :userId OR a2.user.id = :userId THEN 1 ELSE 2 END, " +
+           "m.scoreTeam1, m.scoreTeam2, m.winner, " +
+           "t1.company, a1.firstName, a1.lastName, a2.firstName, a2.lastName, " +
+           "t2.company, b1.firstName, b1.lastName, b2.firstName, b2.lastName) " +
+           "FROM Match m JOIN m.event e JOIN m.team1 t1 JOIN m.team2 t2 " +
+           "JOIN t1.player1 a1 JOIN t1.player2 a2 JOIN t2.player1 b1 JOIN t2.player2 b2 " +
+           "WHERE m.status = 'TERMINE' AND (a1.user.id = :userId OR a2.user.id = :userId " +
+           "OR b1.user.id = :userId OR b2.user.id = :userId) " +
+           "ORDER BY e.eventDate, m.id")
+    List<PlayerMatchRow> findCompletedResultsByUserId(Long userId);
+
+    // Scalar rows read from the cursor as they are consumed: nothing is kept in the persistence context,
+    // the caller closes the stream inside its transaction
+    @Query("SELECT new com.polypadel.dto.MatchExportRow(m.id, e.eventDate, e.eventTime, m.courtNumber, m.status, " +
+           "t1.id, t1.company, CONCAT(a1.firstName, ' ', a1.lastName, ' / ', a2.firstName, ' ', a2.lastName), " +
+           "t2.id, t2.company, CONCAT(b1.firstName, ' ', b1.lastName, ' / ', b2.firstName, ' ', b2.lastName), " +
+           "m.scoreTeam1, m.scoreTeam2, m.setsTeam1, m.setsTeam2, m.winner) " +
+           "FROM Match m JOIN m.event e JOIN m.team1 t1 JOIN m.team2 t2 " +
+           "JOIN t1.player1 a1 JOIN t1.player2 a2 JOIN t2.player1 b1 JOIN t2.player2 b2 " +
+           "WHERE (:status IS NULL OR m.status = :status) " +
+           "ORDER BY e.eventDate, m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<MatchExportRow> streamForExport(MatchStatus status);
 }
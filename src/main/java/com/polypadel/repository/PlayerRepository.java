@@ -1,11 +1,26 @@
 package com.polypadel.repository;
 
 import com.polypadel.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     Optional<Player> findByLicenseNumber(String licenseNumber);
     Optional<Player> findByUserId(Long userId);
     boolean existsByLicenseNumber(String licenseNumber);
+    boolean existsByUserId(Long userId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Player> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    List<Player> findByLicenseNumberIn(Collection<String> licenseNumbers);
+
+    @Query("SELECT p.licenseNumber FROM Player p WHERE p.licenseNumber IN :licenseNumbers")
+    Set<String> findLicenseNumbersIn(Collection<String> licenseNumbers);
 }
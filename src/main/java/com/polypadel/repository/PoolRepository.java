@@ -1,10 +1,17 @@
 package com.polypadel.repository;
 
 import com.polypadel.model.Pool;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
 import java.util.Optional;
 
 public interface PoolRepository extends JpaRepository<Pool, Long> {
     Optional<Pool> findByName(String name);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Pool> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
     boolean existsByName(String name);
 }
@@ -1,14 +1,44 @@
 package com.polypadel.repository;
 
 import com.polypadel.model.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+    // Results are kept in the query cache until the teams, players or pools tables change
+    @EntityGraph(attributePaths = {"player1", "player2", "pool"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Team> findByPoolId(Long poolId);
+
+    @EntityGraph(attributePaths = {"player1", "player2", "pool"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Team> findByCompany(String company);
+
+    // Pages load the players and pool that TeamService.toResponse reads
+    @EntityGraph(attributePaths = {"player1", "player2", "pool"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Team> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = {"player1", "player2", "pool"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Team> findByPoolIdAndIdGreaterThanOrderByIdAsc(Long poolId, Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = {"player1", "player2", "pool"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Team> findByCompanyAndIdGreaterThanOrderByIdAsc(String company, Long afterId, Limit limit);
     
     @Query("SELECT t FROM Team t WHERE t.player1.id = :playerId OR t.player2.id = :playerId")
     List<Team> findByPlayerId(Long playerId);
+
+    @Query("SELECT p.id FROM Player p WHERE p.id IN :playerIds AND EXISTS "
+        + "(SELECT 1 FROM Team t WHERE t.player1 = p OR t.player2 = p)")
+    Set<Long> findPlayerIdsInTeams(Collection<Long> playerIds);
 }
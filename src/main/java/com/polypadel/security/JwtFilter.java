@@ -19,10 +19,12 @@ import java.util.List;
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtFilter(JwtService jwtService, UserRepository userRepository, PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -31,10 +33,10 @@ public class JwtFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtService.isValid(token)) {
-                Claims claims = jwtService.parseToken(token);
+            Claims claims = jwtService.parseValidToken(token);
+            if (claims != null) {
                 Long userId = Long.parseLong(claims.getSubject());
-                User user = userRepository.findById(userId).orElse(null);
+                User user = principalCache.get(userId, id -> userRepository.findById(id).orElse(null));
                 if (user != null && user.isActive()) {
                     var auth = new UsernamePasswordAuthenticationToken(
                         user, null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
@@ -4,18 +4,33 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class JwtService {
     private final Key key;
     private final long expirationMs;
+    private final JwtParser parser;
+
+    // Claims of tokens whose signature was already verified, keyed by SHA-256 of the token, until the token expires
+    private final Map<String, Verified> verified = new ConcurrentHashMap<>();
+    private final int verifiedCacheSize;
 
     public JwtService(@Value("${app.jwt.secret}") String secret,
-                      @Value("${app.jwt.expiration-hours}") int expirationHours) {
+                      @Value("${app.jwt.expiration-hours}") int expirationHours,
+                      @Value("${app.jwt.verified-cache-size}") int verifiedCacheSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.expirationMs = expirationHours * 3600 * 1000L;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedCacheSize = verifiedCacheSize;
     }
 
     public String generateToken(Long userId, String email, String role) {
@@ -30,15 +45,55 @@ public class JwtService {
     }
 
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (verifiedCacheSize <= 0) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        Verified hit = verified.get(digest);
+        if (hit != null && hit.expiresAt > now) {
+            return hit.claims;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() != null) {
+            if (verified.size() >= verifiedCacheSize) {
+                evict(now);
+            }
+            verified.put(digest, new Verified(claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
+    // Single parse for callers that need the claims of a token only if it is valid
+    public Claims parseValidToken(String token) {
+        try {
+            return parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public boolean isValid(String token) {
+        return parseValidToken(token) != null;
+    }
+
+    private void evict(long now) {
+        verified.values().removeIf(v -> v.expiresAt <= now);
+        Iterator<String> it = verified.keySet().iterator();
+        while (verified.size() >= verifiedCacheSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
         try {
-            parseToken(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
+
+    private record Verified(Claims claims, long expiresAt) {}
 }
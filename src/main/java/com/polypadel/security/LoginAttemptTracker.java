@@ -0,0 +1,153 @@
+package com.polypadel.security;
+
+import com.polypadel.model.LoginAttempt;
+import com.polypadel.repository.LoginAttemptRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Failed login counters live in memory; login_attempts is only written behind, in batches, so locks survive a restart
+@Component
+public class LoginAttemptTracker {
+    private final LoginAttemptRepository loginAttemptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final int lockoutMinutes;
+    private final int maxTracked;
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    public LoginAttemptTracker(LoginAttemptRepository loginAttemptRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.lockout.max-attempts}") int maxAttempts,
+                               @Value("${app.lockout.duration-minutes}") int lockoutMinutes,
+                               @Value("${app.lockout.max-tracked}") int maxTracked) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.lockoutMinutes = lockoutMinutes;
+        this.maxTracked = maxTracked;
+    }
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        for (LoginAttempt attempt : loginAttemptRepository.findActive(now, now.minusMinutes(lockoutMinutes))) {
+            states.put(attempt.getEmail(), new State(attempt.getAttemptsCount(), attempt.getLastAttempt(), attempt.getLockedUntil(), true));
+        }
+    }
+
+    public Optional<LocalDateTime> lockedUntil(String email) {
+        State state = states.get(email);
+        LocalDateTime now = LocalDateTime.now();
+        if (state == null || state.lockedUntil == null || !state.lockedUntil.isAfter(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(state.lockedUntil);
+    }
+
+    // Returns the number of consecutive failures, the account being locked once it reaches max-attempts.
+    // Emails without an account are counted and locked the same way, so the answers do not tell them apart,
+    // but only in memory: they are never written to login_attempts.
+    public int recordFailure(String email, boolean knownUser) {
+        LocalDateTime now = LocalDateTime.now();
+        if (states.size() >= maxTracked && !states.containsKey(email)) {
+            evict(now);
+        }
+        State state = states.compute(email, (key, current) -> {
+            int attempts = current == null || current.isExpired(now, lockoutMinutes) ? 1 : current.attempts + 1;
+            LocalDateTime lockedUntil = attempts >= maxAttempts ? now.plusMinutes(lockoutMinutes) : null;
+            return new State(attempts, now, lockedUntil, knownUser);
+        });
+        if (knownUser) {
+            dirty.add(email);
+        }
+        return state.attempts;
+    }
+
+    // No write at all for the usual case of a successful login without previous failures
+    public void recordSuccess(String email) {
+        if (states.remove(email) != null) {
+            dirty.add(email);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.lockout.flush-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        states.entrySet().removeIf(e -> e.getValue().isExpired(now, lockoutMinutes) && !dirty.contains(e.getKey()));
+        if (dirty.isEmpty()) return;
+
+        List<String> emails = new ArrayList<>(dirty);
+        dirty.removeAll(emails);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> write(emails));
+        } catch (RuntimeException e) {
+            // Kept in memory and retried on the next flush
+            dirty.addAll(emails);
+            throw e;
+        }
+    }
+
+    private void write(List<String> emails) {
+        Map<String, LoginAttempt> rows = new HashMap<>();
+        for (LoginAttempt row : loginAttemptRepository.findByEmailIn(emails)) {
+            rows.putIfAbsent(row.getEmail(), row);
+        }
+        List<LoginAttempt> updated = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            State state = states.get(email);
+            LoginAttempt row = rows.get(email);
+            if (row == null) {
+                if (state == null) continue;
+                row = new LoginAttempt(email);
+            }
+            row.setAttemptsCount(state == null ? 0 : state.attempts);
+            row.setLastAttempt(state == null ? row.getLastAttempt() : state.lastAttempt);
+            row.setLockedUntil(state == null ? null : state.lockedUntil);
+            updated.add(row);
+        }
+        loginAttemptRepository.saveAll(updated);
+    }
+
+    // Emails sprayed at the login form would otherwise grow the map until their counters expire. Expired counters
+    // go first, then the oldest that do not lock a real account, down to 90% of max-tracked.
+    private void evict(LocalDateTime now) {
+        states.entrySet().removeIf(e -> e.getValue().isExpired(now, lockoutMinutes) && !dirty.contains(e.getKey()));
+        int excess = states.size() - maxTracked * 9 / 10;
+        if (excess <= 0) return;
+        states.entrySet().stream()
+            .filter(e -> !(e.getValue().knownUser && e.getValue().lockedUntil != null))
+            .sorted(Comparator.comparing(e -> e.getValue().lastAttempt))
+            .limit(excess)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(states::remove);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    private record State(int attempts, LocalDateTime lastAttempt, LocalDateTime lockedUntil, boolean knownUser) {
+        // A counter is forgotten once the lock is over, or after a full lockout period without failures
+        boolean isExpired(LocalDateTime now, int lockoutMinutes) {
+            if (lockedUntil != null) return !lockedUntil.isAfter(now);
+            return lastAttempt == null || lastAttempt.plusMinutes(lockoutMinutes).isBefore(now);
+        }
+    }
+}
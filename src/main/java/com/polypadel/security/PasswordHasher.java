@@ -0,0 +1,90 @@
+package com.polypadel.security;
+
+import com.polypadel.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt runs on its own CPU-sized pool so a burst of logins cannot hold every servlet thread
+@Component
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    // Sent with every 503, built once: a refusal under load allocates no headers
+    private final HttpHeaders retryAfter;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry registry,
+                          @Value("${app.auth.hashing.threads}") int threads,
+                          @Value("${app.auth.hashing.queue}") int queue,
+                          @Value("${app.auth.hashing.retry-after-seconds}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        this.retryAfter = HttpHeaders.readOnlyHttpHeaders(headers);
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queue), r -> {
+                Thread t = new Thread(r, "password-hash-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        this.hashTimer = Timer.builder("auth.password.hash")
+            .description("Temps de vérification ou de calcul d'un hash de mot de passe")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.rejected = Counter.builder("auth.password.rejected")
+            .description("Demandes refusées car le pool de hachage est saturé")
+            .register(registry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(registry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    public CompletableFuture<Boolean> matches(String raw, String encoded) {
+        return submit(() -> passwordEncoder.matches(raw, encoded));
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> hashTimer.record(work), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new Saturated(retryAfter);
+        }
+    }
+
+    private static final class Saturated extends ApiException {
+        private final HttpHeaders headers;
+
+        Saturated(HttpHeaders headers) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Serveur occupé, réessayez dans quelques secondes");
+            this.headers = headers;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.polypadel.security;
+
+import com.polypadel.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Authenticated users by id, so the JWT filter does not hit the users table on every request.
+// Services that change a user's password, email, role or status must call invalidate.
+// Every caller gets its own copy of the user: services change and save the principal they are given,
+// and a change that then fails to save must not leak into the cache.
+@Component
+public class PrincipalCache {
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public PrincipalCache(@Value("${app.auth.principal-cache.ttl-seconds}") long ttlSeconds,
+                          @Value("${app.auth.principal-cache.max-size}") int maxSize) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+    }
+
+    // The first caller for an id loads it, outside any map lock or monitor (a virtual thread waiting on SQLite
+    // there would pin its carrier), and concurrent callers wait on its future.
+    // An invalidate during the load removes the entry, so the value loaded goes to the waiters but is not kept.
+    public User get(Long userId, Function<Long, User> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        while (entry == null || entry.expiresAt - now <= 0) {
+            if (entry == null && entries.size() >= maxSize) {
+                evict(now);
+            }
+            Entry fresh = new Entry(new CompletableFuture<>(), now + ttlNanos);
+            boolean loading = entry == null ? entries.putIfAbsent(userId, fresh) == null : entries.replace(userId, entry, fresh);
+            if (loading) {
+                load(userId, fresh, loader);
+                entry = fresh;
+                break;
+            }
+            entry = entries.get(userId);
+            if (entry != null) break;
+        }
+        try {
+            User user = entry.user.join();
+            return user != null ? copyOf(user) : null;
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            entries.remove(userId);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void load(Long userId, Entry entry, Function<Long, User> loader) {
+        try {
+            User user = loader.apply(userId);
+            if (user == null) {
+                entries.remove(userId, entry);
+            }
+            entry.user.complete(user != null ? copyOf(user) : null);
+        } catch (RuntimeException e) {
+            entries.remove(userId, entry);
+            entry.user.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAt - now <= 0);
+        Iterator<Long> it = entries.keySet().iterator();
+        while (entries.size() >= maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    // Detached copy with every column of User
+    private static User copyOf(User user) {
+        User copy = new User(user.getEmail(), user.getPasswordHash(), user.getRole());
+        copy.setId(user.getId());
+        copy.setActive(user.isActive());
+        copy.setMustChangePassword(user.isMustChangePassword());
+        copy.setCreatedAt(user.getCreatedAt());
+        return copy;
+    }
+
+    private record Entry(CompletableFuture<User> user, long expiresAt) {}
+}
@@ -1,12 +1,12 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
-import org.springframework.http.HttpStatus;
+import com.polypadel.security.PrincipalCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
 import java.security.SecureRandom;
 
 @Service
@@ -14,22 +14,25 @@ public class AdminService {
     private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
     private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
 
-    public AdminService(UserRepository userRepository, PlayerRepository playerRepository, PasswordEncoder passwordEncoder) {
+    public AdminService(UserRepository userRepository, PlayerRepository playerRepository, PasswordEncoder passwordEncoder,
+                        PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.playerRepository = playerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     public record CreateAccountResponse(String message, String email, String temporaryPassword, String warning) {}
 
     public CreateAccountResponse createAccount(Long playerId, String role) {
         Player player = playerRepository.findById(playerId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Joueur non trouvé"));
         
         if (player.getUser() != null) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ce joueur a déjà un compte");
+            throw new ApiException.Conflict("Ce joueur a déjà un compte");
         }
 
         String tempPassword = generatePassword();
@@ -49,12 +52,13 @@ public class AdminService {
 
     public CreateAccountResponse resetPassword(Long userId) {
         User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Utilisateur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Utilisateur non trouvé"));
         
         String tempPassword = generatePassword();
         user.setPasswordHash(passwordEncoder.encode(tempPassword));
         user.setMustChangePassword(true);
         userRepository.save(user);
+        principalCache.invalidate(userId);
 
         return new CreateAccountResponse("Mot de passe réinitialisé", user.getEmail(), tempPassword,
             "Ce mot de passe ne sera affiché qu'une seule fois");
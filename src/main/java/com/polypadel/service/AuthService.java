@@ -1,23 +1,29 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
 import com.polypadel.security.JwtService;
+import com.polypadel.security.LoginAttemptTracker;
+import com.polypadel.security.PasswordHasher;
+import com.polypadel.security.PrincipalCache;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
     private final UserRepository userRepository;
-    private final LoginAttemptRepository loginAttemptRepository;
+    private final LoginAttemptTracker loginAttemptTracker;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+    private final PasswordHasher passwordHasher;
     
     @Value("${app.lockout.max-attempts}")
     private int maxAttempts;
@@ -25,56 +31,61 @@ public class AuthService {
     @Value("${app.lockout.duration-minutes}")
     private int lockoutMinutes;
 
-    public AuthService(UserRepository userRepository, LoginAttemptRepository loginAttemptRepository,
-                       PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, LoginAttemptTracker loginAttemptTracker,
+                       PasswordEncoder passwordEncoder, JwtService jwtService, PrincipalCache principalCache,
+                       PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.loginAttemptRepository = loginAttemptRepository;
+        this.loginAttemptTracker = loginAttemptTracker;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.principalCache = principalCache;
+        this.passwordHasher = passwordHasher;
     }
 
+    @Timed(value = "auth.login", histogram = true, description = "Connexion, vérification du mot de passe comprise")
     public LoginResponse login(LoginRequest request) {
-        LoginAttempt attempt = loginAttemptRepository.findByEmail(request.email())
-                .orElseGet(() -> {
-                    LoginAttempt newAttempt = new LoginAttempt(request.email());
-                    return loginAttemptRepository.save(newAttempt);
-                });
+        checkLockout(request);
+        User user = userRepository.findByEmail(request.email()).orElse(null);
+        return complete(request, user, user != null && passwordEncoder.matches(request.password(), user.getPasswordHash()));
+    }
+
+    // Same as login, but the BCrypt check runs on the hashing pool instead of the caller's thread
+    @Timed(value = "auth.login", histogram = true, description = "Connexion, vérification du mot de passe comprise")
+    public CompletableFuture<LoginResponse> loginAsync(LoginRequest request) {
+        checkLockout(request);
+        User user = userRepository.findByEmail(request.email()).orElse(null);
+        CompletableFuture<Boolean> matched = user == null
+            ? CompletableFuture.completedFuture(false)
+            : passwordHasher.matches(request.password(), user.getPasswordHash());
+        return matched.thenApply(ok -> complete(request, user, ok));
+    }
 
-        // Check if locked
-        if (attempt.getLockedUntil() != null && attempt.getLockedUntil().isAfter(LocalDateTime.now())) {
-            long minutesRemaining = ChronoUnit.MINUTES.between(LocalDateTime.now(), attempt.getLockedUntil()) + 1;
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, 
+    private void checkLockout(LoginRequest request) {
+        loginAttemptTracker.lockedUntil(request.email()).ifPresent(lockedUntil -> {
+            long minutesRemaining = ChronoUnit.MINUTES.between(LocalDateTime.now(), lockedUntil) + 1;
+            throw new ApiException.Forbidden(
                 "Compte bloqué. Réessayez dans " + minutesRemaining + " minutes");
-        }
+        });
+    }
 
-        User user = userRepository.findByEmail(request.email()).orElse(null);
-        
-        if (user == null || !passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-            // Increment failed attempts
-            attempt.setAttemptsCount(attempt.getAttemptsCount() + 1);
-            attempt.setLastAttempt(LocalDateTime.now());
-            
-            if (attempt.getAttemptsCount() >= maxAttempts) {
-                attempt.setLockedUntil(LocalDateTime.now().plusMinutes(lockoutMinutes));
-                loginAttemptRepository.save(attempt);
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, 
+    private LoginResponse complete(LoginRequest request, User user, boolean passwordMatches) {
+        if (!passwordMatches) {
+            int attempts = loginAttemptTracker.recordFailure(request.email(), user != null);
+            if (attempts >= maxAttempts) {
+                throw new ApiException.Forbidden(
                     "Compte bloqué pendant " + lockoutMinutes + " minutes après " + maxAttempts + " tentatives échouées");
             }
             
-            loginAttemptRepository.save(attempt);
-            int remaining = maxAttempts - attempt.getAttemptsCount();
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, 
+            int remaining = maxAttempts - attempts;
+            throw new ApiException.Unauthorized(
                 "Email ou mot de passe incorrect. " + remaining + " tentative(s) restante(s)");
         }
 
         if (!user.isActive()) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Compte désactivé");
+            throw new ApiException.Forbidden("Compte désactivé");
         }
 
-        // Reset attempts on success
-        attempt.setAttemptsCount(0);
-        attempt.setLockedUntil(null);
-        loginAttemptRepository.save(attempt);
+        loginAttemptTracker.recordSuccess(request.email());
 
         String token = jwtService.generateToken(user.getId(), user.getEmail(), user.getRole().name());
         return new LoginResponse(token, "bearer", 
@@ -83,21 +94,22 @@ public class AuthService {
 
     public void changePassword(User user, PasswordChangeRequest request) {
         if (!passwordEncoder.matches(request.currentPassword(), user.getPasswordHash())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Mot de passe actuel incorrect");
+            throw new ApiException.BadRequest("Mot de passe actuel incorrect");
         }
         if (!request.newPassword().equals(request.confirmPassword())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Les mots de passe ne correspondent pas");
+            throw new ApiException.BadRequest("Les mots de passe ne correspondent pas");
         }
         if (request.newPassword().equals(request.currentPassword())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Le nouveau mot de passe doit être différent");
+            throw new ApiException.BadRequest("Le nouveau mot de passe doit être différent");
         }
         if (!isPasswordStrong(request.newPassword())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+            throw new ApiException.BadRequest(
                 "Le mot de passe doit contenir au moins 12 caractères avec majuscules, minuscules, chiffres et caractères spéciaux");
         }
         user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
         user.setMustChangePassword(false);
         userRepository.save(user);
+        principalCache.invalidate(user.getId());
     }
 
     private boolean isPasswordStrong(String password) {
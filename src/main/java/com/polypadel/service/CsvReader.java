@@ -0,0 +1,111 @@
+package com.polypadel.service;
+
+import com.polypadel.exception.ApiException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 records read one at a time (quoted fields, doubled quotes, line breaks inside quotes),
+// so an upload is never held in memory as a whole
+final class CsvReader implements Closeable {
+    private static final int HEADER_LIMIT = 64 * 1024;
+
+    private final BufferedReader in;
+    private char delimiter = ',';
+    private int line = 1;
+    private int recordLine;
+
+    CsvReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    // Spreadsheets in a French locale export with ';', the header tells which one the file uses
+    List<String> header() throws IOException {
+        in.mark(HEADER_LIMIT);
+        String first = in.readLine();
+        in.reset();
+        if (first != null && first.indexOf(';') >= 0 && first.indexOf(',') < 0) {
+            delimiter = ';';
+        }
+        List<String> header;
+        try {
+            header = next();
+        } catch (UnclosedQuote e) {
+            throw new ApiException.BadRequest("Ligne " + e.line + ": guillemet non fermé");
+        }
+        if (header == null) {
+            throw new ApiException.BadRequest("Fichier vide");
+        }
+        header.set(0, header.get(0).replace("\uFEFF", ""));
+        return header;
+    }
+
+    // Next non-blank record, or null at the end of the file. A quote left open swallows the rest of the file,
+    // nothing after it can be read.
+    List<String> next() throws IOException {
+        int c = in.read();
+        while (c == '\r' || c == '\n') {
+            if (c == '\n') line++;
+            c = in.read();
+        }
+        if (c == -1) return null;
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new UnclosedQuote(recordLine);
+                }
+                if (c == '"') {
+                    c = in.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') in.reset();
+                }
+                if (c != -1) line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    // Line of the file where the last record returned by next() starts
+    int line() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    static final class UnclosedQuote extends IOException {
+        final int line;
+
+        UnclosedQuote(int line) {
+            super("Ligne " + line + ": guillemet non fermé");
+            this.line = line;
+        }
+    }
+}
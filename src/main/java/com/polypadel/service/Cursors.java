@@ -0,0 +1,79 @@
+package com.polypadel.service;
+
+import com.polypadel.dto.CursorPage;
+import com.polypadel.exception.ApiException;
+import org.springframework.data.domain.Limit;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+// Keyset pagination for list endpoints: "after" is the id of the last row returned, or for lists ordered by
+// date its date and id ("2025-06-01_123"), so a page does not depend on that row still existing unchanged.
+// One extra row is fetched to know whether another page exists.
+public final class Cursors {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+    // Bounds that SQLite compares correctly once stored as epoch millis
+    public static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private Cursors() {}
+
+    public static int limit(Integer requested) {
+        if (requested == null) return DEFAULT_LIMIT;
+        if (requested < 1 || requested > MAX_LIMIT) {
+            throw new ApiException.BadRequest("Limite invalide (1 à " + MAX_LIMIT + ")");
+        }
+        return requested;
+    }
+
+    public static Limit fetchLimit(int limit) {
+        return Limit.of(limit + 1);
+    }
+
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return 0L;
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    // Position after which a list ordered by (date, id) resumes; before every row without a cursor.
+    // Queries take the rows from dayAfter on, and those of the cursor's date with a greater id. The date is
+    // compared as a range: one stored from another time zone is not exactly at midnight once bound here.
+    public record DateKey(LocalDate date, long id) {
+        public LocalDate dayAfter() {
+            return date.plusDays(1);
+        }
+    }
+
+    public static DateKey afterDateKey(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return new DateKey(MIN_DATE, 0L);
+        int separator = cursor.indexOf('_');
+        if (separator < 0) throw invalid();
+        try {
+            return new DateKey(LocalDate.parse(cursor.substring(0, separator)), Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public static String dateKey(LocalDate date, Long id) {
+        return date + "_" + id;
+    }
+
+    // rows were fetched with fetchLimit(limit); the cursor points at the last row kept
+    public static <T, R> CursorPage<R> page(List<T> rows, int limit, Function<T, String> cursorOf, Function<T, R> mapper) {
+        boolean more = rows.size() > limit;
+        List<T> kept = more ? rows.subList(0, limit) : rows;
+        String next = more ? cursorOf.apply(kept.get(kept.size() - 1)) : null;
+        return new CursorPage<>(kept.stream().map(mapper).toList(), next);
+    }
+
+    private static ApiException invalid() {
+        return new ApiException.BadRequest("Curseur invalide");
+    }
+}
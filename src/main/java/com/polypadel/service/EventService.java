@@ -1,60 +1,81 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
 import java.time.LocalDate;
 import java.util.*;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class EventService {
 
     private final EventRepository eventRepository;
     private final TeamRepository teamRepository;
-    private final MatchRepository matchRepository;
     private final TeamService teamService;
+    private final DataVersion dataVersion;
 
     public EventService(
         EventRepository eventRepository,
         TeamRepository teamRepository,
-        MatchRepository matchRepository,
-        TeamService teamService
+        TeamService teamService,
+        DataVersion dataVersion
     ) {
         this.eventRepository = eventRepository;
         this.teamRepository = teamRepository;
-        this.matchRepository = matchRepository;
         this.teamService = teamService;
+        this.dataVersion = dataVersion;
     }
 
-    public List<EventResponse> findAll(
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> findAll(
         LocalDate startDate,
         LocalDate endDate,
-        String month
+        String month,
+        Integer limit,
+        String after
     ) {
-        List<Event> events;
+        LocalDate start = Cursors.MIN_DATE;
+        LocalDate end = Cursors.MAX_DATE;
         if (month != null) {
-            LocalDate start = LocalDate.parse(month + "-01");
-            LocalDate end = start.plusMonths(1).minusDays(1);
-            events = eventRepository.findByEventDateBetween(start, end);
+            start = LocalDate.parse(month + "-01");
+            end = start.plusMonths(1).minusDays(1);
         } else if (startDate != null && endDate != null) {
-            events = eventRepository.findByEventDateBetween(startDate, endDate);
-        } else {
-            events = eventRepository.findAllWithMatches();
+            start = startDate;
+            end = endDate;
         }
-        return events.stream().map(this::toResponse).toList();
+        int size = Cursors.limit(limit);
+        Cursors.DateKey key = Cursors.afterDateKey(after);
+        List<Long> ids = eventRepository.findPageIds(
+            start,
+            end,
+            key.date(),
+            key.dayAfter(),
+            key.id(),
+            Cursors.fetchLimit(size)
+        );
+        boolean more = ids.size() > size;
+        List<Event> events = ids.isEmpty()
+            ? List.of()
+            : eventRepository.findWithMatchesByIdIn(
+                more ? ids.subList(0, size) : ids
+            );
+        Event last = events.isEmpty() ? null : events.get(events.size() - 1);
+        return new CursorPage<>(
+            events.stream().map(this::toResponse).toList(),
+            more && last != null ? Cursors.dateKey(last.getEventDate(), last.getId()) : null
+        );
     }
 
+    @Transactional(readOnly = true)
     public EventResponse findById(Long id) {
         return toResponse(
             eventRepository
                 .findById(id)
                 .orElseThrow(() ->
-                    new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
+                    new ApiException.NotFound(
                         "Événement non trouvé"
                     )
                 )
@@ -65,38 +86,29 @@ public class EventService {
     public EventResponse create(EventRequest request) {
         validateEventRequest(request);
 
+        Set<Long> teamIds = new HashSet<>();
+        for (EventRequest.MatchInfo mi : request.matches()) {
+            teamIds.add(mi.team1Id());
+            teamIds.add(mi.team2Id());
+        }
+        Map<Long, Team> teams = new HashMap<>();
+        teamRepository.findAllById(teamIds).forEach(t -> teams.put(t.getId(), t));
+
         Event event = new Event();
         event.setEventDate(request.eventDate());
         event.setEventTime(request.eventTime());
-        event = eventRepository.save(event);
-
         for (EventRequest.MatchInfo mi : request.matches()) {
             Match match = new Match();
             match.setEvent(event);
             match.setCourtNumber(mi.courtNumber());
-            match.setTeam1(
-                teamRepository
-                    .findById(mi.team1Id())
-                    .orElseThrow(() ->
-                        new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "Équipe non trouvée"
-                        )
-                    )
-            );
-            match.setTeam2(
-                teamRepository
-                    .findById(mi.team2Id())
-                    .orElseThrow(() ->
-                        new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "Équipe non trouvée"
-                        )
-                    )
-            );
+            match.setTeam1(team(teams, mi.team1Id()));
+            match.setTeam2(team(teams, mi.team2Id()));
             match.setStatus(MatchStatus.A_VENIR);
-            matchRepository.save(match);
+            event.getMatches().add(match);
         }
+        // The matches are cascaded and inserted in one batch with the event
+        event = eventRepository.save(event);
+        dataVersion.changed();
         return findById(event.getId());
     }
 
@@ -105,14 +117,15 @@ public class EventService {
         Event event = eventRepository
             .findById(id)
             .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
+                new ApiException.NotFound(
                     "Événement non trouvé"
                 )
             );
         event.setEventDate(request.eventDate());
         event.setEventTime(request.eventTime());
-        return toResponse(eventRepository.save(event));
+        event = eventRepository.save(event);
+        dataVersion.changed();
+        return toResponse(event);
     }
 
     @Transactional
@@ -120,8 +133,7 @@ public class EventService {
         Event event = eventRepository
             .findById(id)
             .orElseThrow(() ->
-                new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
+                new ApiException.NotFound(
                     "Événement non trouvé"
                 )
             );
@@ -130,12 +142,22 @@ public class EventService {
             .stream()
             .anyMatch(m -> m.getStatus() != MatchStatus.A_VENIR);
         if (hasPlayedMatches) {
-            throw new ResponseStatusException(
-                HttpStatus.CONFLICT,
+            throw new ApiException.Conflict(
                 "Suppression impossible: des matchs ont été joués"
             );
         }
         eventRepository.delete(event);
+        dataVersion.changed();
+    }
+
+    private static Team team(Map<Long, Team> teams, Long id) {
+        Team team = teams.get(id);
+        if (team == null) {
+            throw new ApiException.NotFound(
+                "Équipe non trouvée"
+            );
+        }
+        return team;
     }
 
     private void validateEventRequest(EventRequest request) {
@@ -143,27 +165,24 @@ public class EventService {
         Set<Long> teams = new HashSet<>();
         for (EventRequest.MatchInfo mi : request.matches()) {
             if (!courts.add(mi.courtNumber())) {
-                throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
+                throw new ApiException.BadRequest(
                     "Piste " + mi.courtNumber() + " utilisée plusieurs fois"
                 );
             }
             if (mi.team1Id().equals(mi.team2Id())) {
-                throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
+                throw new ApiException.BadRequest(
                     "Une équipe ne peut pas jouer contre elle-même"
                 );
             }
             if (!teams.add(mi.team1Id()) || !teams.add(mi.team2Id())) {
-                throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
+                throw new ApiException.BadRequest(
                     "Une équipe ne peut jouer qu'un match par événement"
                 );
             }
         }
     }
 
-    private EventResponse toResponse(Event e) {
+    public EventResponse toResponse(Event e) {
         List<MatchResponse> matches = e
             .getMatches()
             .stream()
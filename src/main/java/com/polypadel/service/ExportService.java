@@ -0,0 +1,127 @@
+package com.polypadel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polypadel.dto.MatchExportRow;
+import com.polypadel.dto.RankingRow;
+import com.polypadel.exception.ApiException;
+import com.polypadel.model.MatchStatus;
+import com.polypadel.repository.MatchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.*;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+// Full-season exports written row by row to the response: memory use does not grow with the season
+@Service
+public class ExportService {
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ApiException.BadRequest("Format inconnu: csv ou ndjson");
+            }
+        }
+    }
+
+    private final MatchRepository matchRepository;
+    private final RankingService rankingService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+
+    public ExportService(MatchRepository matchRepository, RankingService rankingService, ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.matchRepository = matchRepository;
+        this.rankingService = rankingService;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    // status null for every match, TERMINE for the results
+    public void matches(MatchStatus status, Format format, OutputStream out) {
+        readOnly.executeWithoutResult(tx -> {
+            try (Stream<MatchExportRow> rows = matchRepository.streamForExport(status)) {
+                write(MatchExportRow.class, rows.iterator(), format, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // Standings are already held in memory by RankingService
+    public void rankings(Format format, OutputStream out) throws IOException {
+        write(RankingRow.class, rankingService.getRankings().iterator(), format, out);
+    }
+
+    private <T extends Record> void write(Class<T> type, Iterator<T> rows, Format format, OutputStream out) throws IOException {
+        RecordComponent[] columns = type.getRecordComponents();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(columns[i].getName());
+            }
+            writer.write("\r\n");
+        }
+        while (rows.hasNext()) {
+            T row = rows.next();
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                continue;
+            }
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) writer.write(',');
+                writer.write(csv(value(columns[i], row)));
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static Object value(RecordComponent column, Record row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Quotes fields that need it; text starting like a formula is prefixed so spreadsheets do not evaluate it
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,267 @@
+package com.polypadel.service;
+
+import com.polypadel.dto.ImportReport;
+import com.polypadel.dto.PlayerRequest;
+import com.polypadel.exception.ApiException;
+import com.polypadel.model.Player;
+import com.polypadel.model.Team;
+import com.polypadel.repository.PlayerRepository;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// CSV bulk import. Rows are checked as they are read, then checked against the database and saved
+// chunk by chunk, one transaction per chunk: a bad row is reported and skipped, the others are kept.
+@Service
+public class ImportService {
+    private static final List<String> PLAYER_COLUMNS = List.of("firstName", "lastName", "company", "licenseNumber", "email");
+    private static final List<String> TEAM_COLUMNS = List.of("player1License", "player2License");
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersion dataVersion;
+    private final int chunkSize;
+
+    public ImportService(PlayerRepository playerRepository, TeamRepository teamRepository,
+                         UserRepository userRepository, Validator validator,
+                         PlatformTransactionManager transactionManager, DataVersion dataVersion,
+                         @Value("${app.import.chunk-size}") int chunkSize) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataVersion = dataVersion;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportReport importPlayers(MultipartFile file) {
+        return read(file, PLAYER_COLUMNS, new Importer<PlayerRequest>() {
+            // Duplicates inside the file, the database only knows about the chunks already saved
+            private final Set<String> licenses = new HashSet<>();
+            private final Set<String> emails = new HashSet<>();
+
+            @Override
+            public PlayerRequest parse(List<String> values, List<ImportReport.RowError> errors, int line) {
+                PlayerRequest request = new PlayerRequest(values.get(0), values.get(1), values.get(2), values.get(3), values.get(4));
+                String error = violations(request);
+                if (error == null && licenses.contains(request.licenseNumber())) {
+                    error = "Numéro de licence en double dans le fichier";
+                } else if (error == null && emails.contains(request.email())) {
+                    error = "Email en double dans le fichier";
+                }
+                if (error != null) {
+                    errors.add(new ImportReport.RowError(line, error));
+                    return null;
+                }
+                licenses.add(request.licenseNumber());
+                emails.add(request.email());
+                return request;
+            }
+
+            @Override
+            public int save(List<Row<PlayerRequest>> chunk, List<ImportReport.RowError> errors) {
+                Set<String> takenLicenses = playerRepository.findLicenseNumbersIn(
+                    chunk.stream().map(r -> r.value().licenseNumber()).toList());
+                Set<String> takenEmails = userRepository.findEmailsIn(
+                    chunk.stream().map(r -> r.value().email()).toList());
+                List<Player> players = new ArrayList<>(chunk.size());
+                for (Row<PlayerRequest> row : chunk) {
+                    PlayerRequest request = row.value();
+                    if (takenLicenses.contains(request.licenseNumber())) {
+                        errors.add(new ImportReport.RowError(row.line(), "Ce numéro de licence existe déjà"));
+                    } else if (takenEmails.contains(request.email())) {
+                        errors.add(new ImportReport.RowError(row.line(), "Cet email existe déjà"));
+                    } else {
+                        Player player = new Player();
+                        player.setFirstName(PlayerService.sanitize(request.firstName()));
+                        player.setLastName(PlayerService.sanitize(request.lastName()));
+                        player.setCompany(PlayerService.sanitize(request.company()));
+                        player.setLicenseNumber(request.licenseNumber());
+                        players.add(player);
+                    }
+                }
+                playerRepository.saveAll(players);
+                return players.size();
+            }
+        });
+    }
+
+    public ImportReport importTeams(MultipartFile file) {
+        return read(file, TEAM_COLUMNS, new Importer<String[]>() {
+            private final Set<String> licenses = new HashSet<>();
+
+            @Override
+            public String[] parse(List<String> values, List<ImportReport.RowError> errors, int line) {
+                String license1 = values.get(0).trim();
+                String license2 = values.get(1).trim();
+                String error = null;
+                if (license1.isEmpty() || license2.isEmpty()) {
+                    error = "Numéros de licence des deux joueurs requis";
+                } else if (license1.equals(license2)) {
+                    error = "Les deux joueurs doivent être différents";
+                } else if (licenses.contains(license1) || licenses.contains(license2)) {
+                    error = "Un joueur apparaît dans plusieurs équipes du fichier";
+                }
+                if (error != null) {
+                    errors.add(new ImportReport.RowError(line, error));
+                    return null;
+                }
+                licenses.add(license1);
+                licenses.add(license2);
+                return new String[]{license1, license2};
+            }
+
+            @Override
+            public int save(List<Row<String[]>> chunk, List<ImportReport.RowError> errors) {
+                Map<String, Player> players = playerRepository.findByLicenseNumberIn(
+                        chunk.stream().flatMap(r -> Arrays.stream(r.value())).toList()).stream()
+                    .collect(Collectors.toMap(Player::getLicenseNumber, Function.identity()));
+                Set<Long> inTeams = players.isEmpty() ? Set.of()
+                    : teamRepository.findPlayerIdsInTeams(players.values().stream().map(Player::getId).toList());
+                List<Team> teams = new ArrayList<>(chunk.size());
+                for (Row<String[]> row : chunk) {
+                    Player p1 = players.get(row.value()[0]);
+                    Player p2 = players.get(row.value()[1]);
+                    String error = null;
+                    if (p1 == null) {
+                        error = "Joueur 1 non trouvé";
+                    } else if (p2 == null) {
+                        error = "Joueur 2 non trouvé";
+                    } else if (inTeams.contains(p1.getId()) || inTeams.contains(p2.getId())) {
+                        error = "Un joueur est déjà dans une équipe";
+                    } else {
+                        try {
+                            TeamService.requireSameCompany(p1, p2);
+                        } catch (ResponseStatusException e) {
+                            error = e.getReason();
+                        }
+                    }
+                    if (error != null) {
+                        errors.add(new ImportReport.RowError(row.line(), error));
+                        continue;
+                    }
+                    Team team = new Team();
+                    team.setCompany(p1.getCompany());
+                    team.setPlayer1(p1);
+                    team.setPlayer2(p2);
+                    teams.add(team);
+                }
+                teamRepository.saveAll(teams);
+                if (!teams.isEmpty()) {
+                    dataVersion.changed();
+                }
+                return teams.size();
+            }
+        });
+    }
+
+    private <T> ImportReport read(MultipartFile file, List<String> columns, Importer<T> importer) {
+        List<ImportReport.RowError> errors = new ArrayList<>();
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+        int rows = 0;
+        int imported = 0;
+        try (CsvReader csv = new CsvReader(file.getInputStream())) {
+            int[] positions = positions(csv.header(), columns);
+            while (true) {
+                List<String> fields;
+                try {
+                    fields = csv.next();
+                } catch (CsvReader.UnclosedQuote e) {
+                    // Earlier chunks are already saved: the report says where reading stopped
+                    rows++;
+                    errors.add(new ImportReport.RowError(e.line, "Guillemet non fermé, la suite du fichier est ignorée"));
+                    break;
+                }
+                if (fields == null) break;
+                rows++;
+                List<String> values = new ArrayList<>(columns.size());
+                for (int position : positions) {
+                    values.add(position < fields.size() ? fields.get(position) : "");
+                }
+                T value = importer.parse(values, errors, csv.line());
+                if (value != null) {
+                    chunk.add(new Row<>(csv.line(), value));
+                }
+                if (chunk.size() == chunkSize) {
+                    imported += save(chunk, errors, importer);
+                }
+            }
+            imported += save(chunk, errors, importer);
+        } catch (IOException e) {
+            throw new ApiException.BadRequest("Fichier illisible");
+        }
+        errors.sort(Comparator.comparingInt(ImportReport.RowError::line));
+        return new ImportReport(rows, imported, errors);
+    }
+
+    private <T> int save(List<Row<T>> chunk, List<ImportReport.RowError> errors, Importer<T> importer) {
+        if (chunk.isEmpty()) return 0;
+        List<ImportReport.RowError> chunkErrors = new ArrayList<>();
+        try {
+            Integer saved = transactionTemplate.execute(tx -> importer.save(chunk, chunkErrors));
+            errors.addAll(chunkErrors);
+            return saved;
+        } catch (DataAccessException e) {
+            // Rolled back as a whole, e.g. a row written concurrently by another request
+            chunk.forEach(row -> errors.add(new ImportReport.RowError(row.line(), "Enregistrement impossible")));
+            return 0;
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    // Position of each expected column in the header, whatever the order and case the file uses
+    private int[] positions(List<String> header, List<String> columns) {
+        int[] positions = new int[columns.size()];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            positions[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).trim().equalsIgnoreCase(columns.get(i))) {
+                    positions[i] = j;
+                    break;
+                }
+            }
+            if (positions[i] < 0) missing.add(columns.get(i));
+        }
+        if (!missing.isEmpty()) {
+            throw new ApiException.BadRequest("Colonnes manquantes: " + String.join(", ", missing));
+        }
+        return positions;
+    }
+
+    private String violations(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private record Row<T>(int line, T value) {}
+
+    private interface Importer<T> {
+        // Checks that need no database access; returns null once the row's error is recorded
+        T parse(List<String> values, List<ImportReport.RowError> errors, int line);
+
+        // Runs in the chunk's transaction; returns the number of rows saved
+        int save(List<Row<T>> chunk, List<ImportReport.RowError> errors);
+    }
+}
@@ -0,0 +1,148 @@
+package com.polypadel.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class LiveUpdateService {
+    public enum Channel { MATCHES, RANKINGS }
+
+    private final Map<Channel, Set<Subscriber>> subscribers = new EnumMap<>(Channel.class);
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final int bufferSize;
+
+    public LiveUpdateService(@Value("${app.live.timeout-minutes}") long timeoutMinutes,
+                             @Value("${app.live.buffer-size}") int bufferSize,
+                             @Value("${app.live.fanout-threads}") int fanoutThreads,
+                             @Value("${app.live.fanout-queue}") int fanoutQueue) {
+        for (Channel channel : Channel.values()) {
+            subscribers.put(channel, ConcurrentHashMap.newKeySet());
+        }
+        this.timeoutMs = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.bufferSize = bufferSize;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(fanoutThreads, fanoutThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fanoutQueue), r -> {
+                Thread t = new Thread(r, "live-fanout-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    public SseEmitter subscribe(Channel channel) {
+        return subscribe(channel, null, null);
+    }
+
+    // The initial event, if any, is queued before the subscriber can receive any update
+    public SseEmitter subscribe(Channel channel, String initialName, Object initialData) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(channel, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        if (initialName != null) {
+            subscriber.queue.offer(SseEmitter.event().name(initialName).data(initialData));
+        }
+        subscribers.get(channel).add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public void publish(Channel channel, String name, Object data) {
+        Set<Subscriber> targets = subscribers.get(channel);
+        if (targets.isEmpty()) return;
+        for (Subscriber subscriber : targets) {
+            // A subscriber that cannot keep up is dropped; EventSource clients reconnect and resync
+            if (!subscriber.queue.offer(SseEmitter.event().name(name).data(data))) {
+                remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    // Idle streams get a comment line so proxies do not close them before the timeout; a subscriber whose
+    // buffer is full is already behind and gets nothing more
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-seconds}", timeUnit = TimeUnit.SECONDS)
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.queue.offer(SseEmitter.event().comment("ping"))) {
+                    schedule(subscriber);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount(Channel channel) {
+        return subscribers.get(channel).size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        for (Set<Subscriber> set : subscribers.values()) {
+            set.forEach(s -> s.emitter.complete());
+            set.clear();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // Fan-out pool saturated: nothing would drain the queue until the next publish, so the stream is
+            // closed and the client reconnects and resyncs, as when its buffer overflows
+            remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (!subscriber.queue.isEmpty() && subscribers.get(subscriber.channel).contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.get(subscriber.channel).remove(subscriber);
+    }
+
+    private static final class Subscriber {
+        final Channel channel;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscriber(Channel channel, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class MatchService {
@@ -15,42 +19,61 @@ public class MatchService {
     private final TeamService teamService;
     private final TeamRepository teamRepository;
     private final EventRepository eventRepository;
+    private final RankingService rankingService;
+    private final LiveUpdateService liveUpdateService;
+    private final DataVersion dataVersion;
+    // Standings last sent on the rankings stream; each change sends only the rows that differ from them
+    private final ReentrantLock rankingsStream = new ReentrantLock();
+    private List<RankingRow> publishedRankings = List.of();
+
+    @Value("${app.matches.upcoming-days:30}")
+    private int upcomingDays = 30;
 
     public MatchService(MatchRepository matchRepository, TeamService teamService,
-                       TeamRepository teamRepository, EventRepository eventRepository) {
+                       TeamRepository teamRepository, EventRepository eventRepository,
+                       RankingService rankingService, LiveUpdateService liveUpdateService,
+                       DataVersion dataVersion) {
         this.matchRepository = matchRepository;
         this.teamService = teamService;
         this.teamRepository = teamRepository;
         this.eventRepository = eventRepository;
+        this.rankingService = rankingService;
+        this.liveUpdateService = liveUpdateService;
+        this.dataVersion = dataVersion;
     }
 
-    public List<MatchResponse> findUpcoming(Long teamId, Boolean myMatches, User currentUser) {
+    @Transactional(readOnly = true)
+    public CursorPage<MatchResponse> findUpcoming(Long teamId, Boolean myMatches, User currentUser, Integer limit, String after) {
         LocalDate start = LocalDate.now();
-        LocalDate end = start.plusDays(30);
-        List<Match> matches = matchRepository.findByDateRange(start, end);
-        
-        if (teamId != null) {
-            matches = matches.stream().filter(m -> 
-                m.getTeam1().getId().equals(teamId) || m.getTeam2().getId().equals(teamId)).toList();
+        LocalDate end = start.plusDays(upcomingDays);
+        int size = Cursors.limit(limit);
+        Long userId = null;
+        if (Boolean.TRUE.equals(myMatches)) {
+            if (currentUser == null) return new CursorPage<>(List.of(), null);
+            userId = currentUser.getId();
         }
-        return matches.stream().map(this::toResponse).toList();
+        Cursors.DateKey key = Cursors.afterDateKey(after);
+        List<Match> matches = matchRepository.findUpcomingPage(start, end, teamId, userId,
+            key.date(), key.dayAfter(), key.id(), Cursors.fetchLimit(size));
+        return Cursors.page(matches, size, m -> Cursors.dateKey(m.getEvent().getEventDate(), m.getId()), this::toResponse);
     }
 
+    @Transactional(readOnly = true)
     public MatchResponse findById(Long id) {
         return toResponse(matchRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Match non trouvé")));
+            .orElseThrow(() -> new ApiException.NotFound("Match non trouvé")));
     }
 
     public MatchResponse create(MatchCreateRequest request) {
         Event event = eventRepository.findById(request.eventId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Événement non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Événement non trouvé"));
         Team team1 = teamRepository.findById(request.team1Id())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe 1 non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Équipe 1 non trouvée"));
         Team team2 = teamRepository.findById(request.team2Id())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe 2 non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Équipe 2 non trouvée"));
 
         if (team1.getId().equals(team2.getId())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Les deux équipes doivent être différentes");
+            throw new ApiException.BadRequest("Les deux équipes doivent être différentes");
         }
 
         Match match = new Match();
@@ -60,13 +83,18 @@ public class MatchService {
         match.setCourtNumber(request.courtNumber());
         match.setStatus(MatchStatus.A_VENIR);
 
-        return toResponse(matchRepository.save(match));
+        match = matchRepository.save(match);
+        dataVersion.changed();
+        return toResponse(match);
     }
 
+    // The match is read and written on the single SQLite writer connection, held until commit, so concurrent
+    // updates reach replace one after the other. RankingService follows the transaction's outcome itself.
+    @Transactional
     public MatchResponse update(Long id, MatchUpdateRequest request) {
         Match match = matchRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Match non trouvé"));
-        
+            .orElseThrow(() -> new ApiException.NotFound("Match non trouvé"));
+
         if (request.status() != null) {
             match.setStatus(MatchStatus.valueOf(request.status()));
         }
@@ -76,16 +104,31 @@ public class MatchService {
         if (request.scoreTeam2() != null) {
             match.setScoreTeam2(request.scoreTeam2());
         }
-        return toResponse(matchRepository.save(match));
+        if (request.scoreTeam1() != null || request.scoreTeam2() != null) {
+            Scores.apply(match);
+        }
+        match = matchRepository.saveAndFlush(match);
+        boolean rankingsChanged = rankingService.replace(match.getId(), RankingService.outcomeOf(match));
+        dataVersion.changed();
+
+        MatchResponse response = toResponse(match);
+        afterCommit(() -> {
+            liveUpdateService.publish(LiveUpdateService.Channel.MATCHES, "match", response);
+            if (rankingsChanged) {
+                publishRankings();
+            }
+        });
+        return response;
     }
 
     public void delete(Long id) {
         Match match = matchRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Match non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Match non trouvé"));
         if (match.getStatus() != MatchStatus.A_VENIR) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seuls les matchs à venir peuvent être supprimés");
+            throw new ApiException.Conflict("Seuls les matchs à venir peuvent être supprimés");
         }
         matchRepository.delete(match);
+        dataVersion.changed();
     }
 
     public MatchResponse toResponse(Match m) {
@@ -98,4 +141,35 @@ public class MatchService {
             m.getScoreTeam1(),
             m.getScoreTeam2());
     }
+
+    // Subscribers get the whole standings when they subscribe, then "rankings-delta" events. Each one is taken
+    // from the latest standings, so a delta sent late never takes clients back; while the standings are being
+    // reloaded nothing is sent, the next change covers it.
+    private void publishRankings() {
+        rankingsStream.lock();
+        try {
+            List<RankingRow> rankings = rankingService.current();
+            if (rankings == null) return;
+            RankingDelta delta = RankingDelta.between(publishedRankings, rankings);
+            publishedRankings = rankings;
+            if (!delta.isEmpty()) {
+                liveUpdateService.publish(LiveUpdateService.Channel.RANKINGS, "rankings-delta", delta);
+            }
+        } finally {
+            rankingsStream.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
@@ -1,11 +1,11 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
@@ -13,28 +13,35 @@ public class PlayerService {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final DataVersion dataVersion;
 
-    public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository, UserRepository userRepository) {
+    public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository, UserRepository userRepository,
+                         DataVersion dataVersion) {
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
+        this.dataVersion = dataVersion;
     }
 
-    public List<PlayerResponse> findAll() {
-        return playerRepository.findAll().stream().map(this::toResponse).toList();
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> findAll(Integer limit, String after) {
+        int size = Cursors.limit(limit);
+        List<Player> players = playerRepository.findByIdGreaterThanOrderByIdAsc(Cursors.afterId(after), Cursors.fetchLimit(size));
+        return Cursors.page(players, size, p -> String.valueOf(p.getId()), this::toResponse);
     }
 
+    @Transactional(readOnly = true)
     public PlayerResponse findById(Long id) {
         return toResponse(playerRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur non trouvé")));
+            .orElseThrow(() -> new ApiException.NotFound("Joueur non trouvé")));
     }
 
     public PlayerResponse create(PlayerRequest request) {
         if (playerRepository.existsByLicenseNumber(request.licenseNumber())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ce numéro de licence existe déjà");
+            throw new ApiException.Conflict("Ce numéro de licence existe déjà");
         }
         if (userRepository.existsByEmail(request.email())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Cet email existe déjà");
+            throw new ApiException.Conflict("Cet email existe déjà");
         }
         Player player = new Player();
         player.setFirstName(sanitize(request.firstName()));
@@ -46,18 +53,21 @@ public class PlayerService {
 
     public PlayerResponse update(Long id, PlayerRequest request) {
         Player player = playerRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Joueur non trouvé"));
         player.setFirstName(sanitize(request.firstName()));
         player.setLastName(sanitize(request.lastName()));
         player.setCompany(sanitize(request.company()));
-        return toResponse(playerRepository.save(player));
+        player = playerRepository.save(player);
+        // Player names are part of the team, pool and event responses
+        dataVersion.changed();
+        return toResponse(player);
     }
 
     public void delete(Long id) {
         Player player = playerRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Joueur non trouvé"));
         if (!teamRepository.findByPlayerId(id).isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ce joueur appartient à une équipe");
+            throw new ApiException.Conflict("Ce joueur appartient à une équipe");
         }
         playerRepository.delete(player);
     }
@@ -67,7 +77,8 @@ public class PlayerService {
             p.getLicenseNumber(), p.getBirthDate(), p.getPhotoUrl(), p.getUser() != null);
     }
 
-    private String sanitize(String input) {
+    // Also applied to the rows of a CSV import
+    public static String sanitize(String input) {
         return input == null ? null : input.replaceAll("<[^>]*>", "").trim();
     }
 }
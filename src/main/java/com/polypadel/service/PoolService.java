@@ -1,12 +1,14 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class PoolService {
@@ -14,73 +16,88 @@ public class PoolService {
     private final TeamRepository teamRepository;
     private final MatchRepository matchRepository;
     private final TeamService teamService;
+    private final DataVersion dataVersion;
 
     public PoolService(PoolRepository poolRepository, TeamRepository teamRepository,
-                       MatchRepository matchRepository, TeamService teamService) {
+                       MatchRepository matchRepository, TeamService teamService, DataVersion dataVersion) {
         this.poolRepository = poolRepository;
         this.teamRepository = teamRepository;
         this.matchRepository = matchRepository;
         this.teamService = teamService;
+        this.dataVersion = dataVersion;
     }
 
-    public List<PoolResponse> findAll() {
-        return poolRepository.findAll().stream().map(this::toResponse).toList();
+    @Transactional(readOnly = true)
+    public CursorPage<PoolResponse> findAll(Integer limit, String after) {
+        int size = Cursors.limit(limit);
+        List<Pool> pools = poolRepository.findByIdGreaterThanOrderByIdAsc(Cursors.afterId(after), Cursors.fetchLimit(size));
+        return Cursors.page(pools, size, p -> String.valueOf(p.getId()), this::toResponse);
     }
 
+    @Transactional(readOnly = true)
     public PoolResponse findById(Long id) {
         return toResponse(poolRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Poule non trouvée")));
+            .orElseThrow(() -> new ApiException.NotFound("Poule non trouvée")));
     }
 
+    @Transactional
     public PoolResponse create(PoolRequest request) {
         if (poolRepository.existsByName(request.name())) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ce nom de poule existe déjà");
+            throw new ApiException.Conflict("Ce nom de poule existe déjà");
         }
         if (request.teamIds() == null || request.teamIds().size() != 6) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Une poule doit contenir exactement 6 équipes");
+            throw new ApiException.BadRequest("Une poule doit contenir exactement 6 équipes");
+        }
+
+        Map<Long, Team> teams = new HashMap<>();
+        teamRepository.findAllById(request.teamIds()).forEach(t -> teams.put(t.getId(), t));
+        for (Long teamId : request.teamIds()) {
+            if (!teams.containsKey(teamId)) {
+                throw new ApiException.NotFound("Équipe " + teamId + " non trouvée");
+            }
         }
 
         Pool pool = new Pool();
         pool.setName(request.name());
         pool = poolRepository.save(pool);
-
-        for (Long teamId : request.teamIds()) {
-            Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe " + teamId + " non trouvée"));
+        for (Team team : teams.values()) {
             team.setPool(pool);
-            teamRepository.save(team);
         }
+        teamRepository.saveAll(teams.values());
+        dataVersion.changed();
         return findById(pool.getId());
     }
 
     public PoolResponse update(Long id, PoolRequest request) {
         Pool pool = poolRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Poule non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Poule non trouvée"));
         
         // Check no matches played
         for (Team team : pool.getTeams()) {
             if (!matchRepository.findCompletedByTeamId(team.getId()).isEmpty()) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Modification impossible: des matchs ont été joués");
+                throw new ApiException.Conflict("Modification impossible: des matchs ont été joués");
             }
         }
         
         pool.setName(request.name());
         poolRepository.save(pool);
+        dataVersion.changed();
         return findById(id);
     }
 
     public void delete(Long id) {
         Pool pool = poolRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Poule non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Poule non trouvée"));
         
         for (Team team : pool.getTeams()) {
             if (!matchRepository.findCompletedByTeamId(team.getId()).isEmpty()) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Suppression impossible: des matchs ont été joués");
+                throw new ApiException.Conflict("Suppression impossible: des matchs ont été joués");
             }
             team.setPool(null);
             teamRepository.save(team);
         }
         poolRepository.delete(pool);
+        dataVersion.changed();
     }
 
     private PoolResponse toResponse(Pool p) {
@@ -1,11 +1,14 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
+import com.polypadel.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import java.io.IOException;
@@ -16,15 +19,21 @@ import java.util.UUID;
 public class ProfileService {
     private final UserRepository userRepository;
     private final PlayerRepository playerRepository;
+    private final PrincipalCache principalCache;
+    private final DataVersion dataVersion;
     
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
 
-    public ProfileService(UserRepository userRepository, PlayerRepository playerRepository) {
+    public ProfileService(UserRepository userRepository, PlayerRepository playerRepository,
+                          PrincipalCache principalCache, DataVersion dataVersion) {
         this.userRepository = userRepository;
         this.playerRepository = playerRepository;
+        this.principalCache = principalCache;
+        this.dataVersion = dataVersion;
     }
 
+    @Transactional(readOnly = true)
     public ProfileResponse getProfile(User user) {
         Player player = playerRepository.findByUserId(user.getId()).orElse(null);
         PlayerResponse pr = player != null ? new PlayerResponse(
@@ -37,38 +46,40 @@ public class ProfileService {
 
     public ProfileResponse updateProfile(User user, ProfileUpdateRequest request) {
         Player player = playerRepository.findByUserId(user.getId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profil joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Profil joueur non trouvé"));
         
         if (request.firstName() != null) player.setFirstName(request.firstName());
         if (request.lastName() != null) player.setLastName(request.lastName());
         if (request.birthDate() != null) player.setBirthDate(request.birthDate());
         if (request.email() != null && !request.email().equals(user.getEmail())) {
             if (userRepository.existsByEmail(request.email())) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, "Cet email existe déjà");
+                throw new ApiException.Conflict("Cet email existe déjà");
             }
             user.setEmail(request.email());
             userRepository.save(user);
+            principalCache.invalidate(user.getId());
         }
         playerRepository.save(player);
+        dataVersion.changed();
         return getProfile(user);
     }
 
     public String uploadPhoto(User user, MultipartFile photo) {
         Player player = playerRepository.findByUserId(user.getId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profil joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Profil joueur non trouvé"));
 
         if (photo.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Fichier vide");
+            throw new ApiException.BadRequest("Fichier vide");
         }
 
         String contentType = photo.getContentType();
         if (contentType == null || (!contentType.equals("image/jpeg") && 
             !contentType.equals("image/png") && !contentType.equals("image/jpg"))) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Format invalide. Utilisez JPG ou PNG");
+            throw new ApiException.BadRequest("Format invalide. Utilisez JPG ou PNG");
         }
 
         if (photo.getSize() > 2 * 1024 * 1024) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Taille maximale: 2MB");
+            throw new ApiException.BadRequest("Taille maximale: 2MB");
         }
 
         try {
@@ -102,7 +113,7 @@ public class ProfileService {
 
     public void deletePhoto(User user) {
         Player player = playerRepository.findByUserId(user.getId())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profil joueur non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Profil joueur non trouvé"));
 
         if (player.getPhotoUrl() != null) {
             try {
@@ -3,52 +3,158 @@ package com.polypadel.service;
 import com.polypadel.dto.RankingRow;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class RankingService {
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
+    private final TransactionTemplate readOnly;
 
-    public RankingService(MatchRepository matchRepository, TeamRepository teamRepository) {
+    // Standings are built once from the completed matches, then kept up to date by MatchService
+    private final Map<String, Stats> standings = new HashMap<>();
+    // Outcome each finished match contributes to the standings, so a correction removes what was really added
+    private final Map<Long, Outcome> counted = new HashMap<>();
+    // The first load reads the database; a lock rather than synchronized keeps waiting virtual threads unpinned
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean loaded;
+    // Bumped each time the standings are dropped, so a write can tell whether they were rebuilt since it was counted
+    private long generation;
+    private volatile List<RankingRow> snapshot;
+
+    public RankingService(MatchRepository matchRepository, TeamRepository teamRepository,
+                          PlatformTransactionManager transactionManager) {
         this.matchRepository = matchRepository;
         this.teamRepository = teamRepository;
+        // The full scan goes to the reader pool instead of holding the single writer connection
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
     }
 
+    public record Outcome(String company1, String company2, int sets1, int sets2, int winner) {}
+
+    @Timed(value = "rankings.get", histogram = true, description = "Lecture du classement des entreprises")
     public List<RankingRow> getRankings() {
-        List<Match> completedMatches = matchRepository.findByStatus(MatchStatus.TERMINE);
-        Map<String, Stats> companyStats = new HashMap<>();
-
-        for (Match match : completedMatches) {
-            String company1 = match.getTeam1().getCompany();
-            String company2 = match.getTeam2().getCompany();
-            companyStats.putIfAbsent(company1, new Stats());
-            companyStats.putIfAbsent(company2, new Stats());
-
-            Stats s1 = companyStats.get(company1);
-            Stats s2 = companyStats.get(company2);
-            s1.matchesPlayed++;
-            s2.matchesPlayed++;
-
-            int[] sets = parseScore(match.getScoreTeam1(), match.getScoreTeam2());
-            s1.setsWon += sets[0];
-            s1.setsLost += sets[1];
-            s2.setsWon += sets[1];
-            s2.setsLost += sets[0];
-
-            if (sets[0] > sets[1]) {
-                s1.wins++;
-                s1.points += 3;
-                s2.losses++;
-            } else {
-                s2.wins++;
-                s2.points += 3;
-                s1.losses++;
+        List<RankingRow> rows = snapshot;
+        return rows != null ? rows : load();
+    }
+
+    // Standings as they are now, or null while they are not loaded; never reads the database
+    public List<RankingRow> current() {
+        return snapshot;
+    }
+
+    public static Outcome outcomeOf(Match match) {
+        if (match.getStatus() != MatchStatus.TERMINE) return null;
+        return new Outcome(match.getTeam1().getCompany(), match.getTeam2().getCompany(),
+            orZero(match.getSetsTeam1()), orZero(match.getSetsTeam2()), orZero(match.getWinner()));
+    }
+
+    // Replaces the contribution of a match with its saved outcome (null when it is not finished), including
+    // corrections; the previous one is taken from what was counted, not from the caller. True if the standings changed.
+    // Called inside the writing transaction: see completed() for what happens once it ends.
+    public boolean replace(Long matchId, Outcome current) {
+        boolean changed = false;
+        long counting;
+        lock.lock();
+        try {
+            counting = loaded ? generation : -1;
+            if (loaded) {
+                Outcome previous = current != null ? counted.put(matchId, current) : counted.remove(matchId);
+                if (!Objects.equals(previous, current)) {
+                    apply(previous, -1);
+                    apply(current, 1);
+                    snapshot = sort();
+                    changed = true;
+                }
             }
+        } finally {
+            lock.unlock();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean applied = changed;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    completed(counting, status == STATUS_COMMITTED, applied);
+                }
+            });
         }
+        return changed;
+    }
 
-        List<Map.Entry<String, Stats>> sorted = new ArrayList<>(companyStats.entrySet());
+    // A committed write missing from the standings (they were not loaded, or were rebuilt while it was uncommitted)
+    // and a rolled back one still counted in them both mean the standings are wrong: they are read again
+    private void completed(long counting, boolean committed, boolean applied) {
+        lock.lock();
+        try {
+            if (committed ? counting != generation : applied && counting == generation) {
+                loaded = false;
+                snapshot = null;
+                generation++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<RankingRow> load() {
+        lock.lock();
+        try {
+            if (!loaded) {
+                standings.clear();
+                counted.clear();
+                readOnly.executeWithoutResult(tx -> {
+                    for (Match match : matchRepository.findByStatus(MatchStatus.TERMINE)) {
+                        Outcome outcome = outcomeOf(match);
+                        counted.put(match.getId(), outcome);
+                        apply(outcome, 1);
+                    }
+                });
+                loaded = true;
+                snapshot = sort();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(Outcome outcome, int sign) {
+        if (outcome == null) return;
+        Stats s1 = standings.computeIfAbsent(outcome.company1(), k -> new Stats());
+        Stats s2 = standings.computeIfAbsent(outcome.company2(), k -> new Stats());
+        s1.matchesPlayed += sign;
+        s2.matchesPlayed += sign;
+
+        s1.setsWon += sign * outcome.sets1();
+        s1.setsLost += sign * outcome.sets2();
+        s2.setsWon += sign * outcome.sets2();
+        s2.setsLost += sign * outcome.sets1();
+
+        if (outcome.winner() == 1) {
+            s1.wins += sign;
+            s1.points += sign * 3;
+            s2.losses += sign;
+        } else if (outcome.winner() == 2) {
+            s2.wins += sign;
+            s2.points += sign * 3;
+            s1.losses += sign;
+        }
+
+        if (s1.matchesPlayed == 0) standings.remove(outcome.company1());
+        if (s2.matchesPlayed == 0) standings.remove(outcome.company2());
+    }
+
+    private List<RankingRow> sort() {
+        List<Map.Entry<String, Stats>> sorted = new ArrayList<>(standings.entrySet());
         sorted.sort((a, b) -> {
             int cmp = Integer.compare(b.getValue().points, a.getValue().points);
             if (cmp != 0) return cmp;
@@ -67,23 +173,11 @@ public class RankingService {
             Stats s = entry.getValue();
             result.add(new RankingRow(pos++, entry.getKey(), s.matchesPlayed, s.wins, s.losses, s.points, s.setsWon, s.setsLost));
         }
-        return result;
+        return List.copyOf(result);
     }
 
-    private int[] parseScore(String score1, String score2) {
-        if (score1 == null || score2 == null) return new int[]{0, 0};
-        String[] sets1 = score1.split(",\\s*");
-        String[] sets2 = score2.split(",\\s*");
-        int won1 = 0, won2 = 0;
-        for (int i = 0; i < sets1.length; i++) {
-            String[] parts1 = sets1[i].split("-");
-            String[] parts2 = sets2[i].split("-");
-            int g1 = Integer.parseInt(parts1[0].trim());
-            int g2 = Integer.parseInt(parts2[0].trim());
-            if (g1 > g2) won1++;
-            else won2++;
-        }
-        return new int[]{won1, won2};
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
     }
 
     private static class Stats {
@@ -0,0 +1,34 @@
+package com.polypadel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Circle method: the first team stays in place and the others rotate, so every pair meets exactly once
+// over n - 1 rounds and nobody plays twice in a round. With an odd count one team rests each round.
+public final class RoundRobin {
+    private RoundRobin() {}
+
+    public record Pairing<T>(T home, T away) {}
+
+    public static <T> List<List<Pairing<T>>> rounds(List<T> teams) {
+        List<T> circle = new ArrayList<>(teams);
+        if (circle.size() % 2 != 0) {
+            circle.add(null);
+        }
+        int n = circle.size();
+        List<List<Pairing<T>>> rounds = new ArrayList<>(n - 1);
+        for (int round = 0; round < n - 1; round++) {
+            List<Pairing<T>> pairings = new ArrayList<>(n / 2);
+            for (int i = 0; i < n / 2; i++) {
+                T a = circle.get(i);
+                T b = circle.get(n - 1 - i);
+                if (a == null || b == null) continue;
+                // The fixed team would otherwise always be listed first
+                pairings.add(i == 0 && round % 2 == 1 ? new Pairing<>(b, a) : new Pairing<>(a, b));
+            }
+            rounds.add(pairings);
+            circle.add(1, circle.remove(n - 1));
+        }
+        return rounds;
+    }
+}
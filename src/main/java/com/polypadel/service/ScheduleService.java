@@ -0,0 +1,80 @@
+package com.polypadel.service;
+
+import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
+import com.polypadel.model.*;
+import com.polypadel.repository.*;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class ScheduleService {
+    public static final int DEFAULT_COURTS = 3;
+    public static final int DEFAULT_INTERVAL_DAYS = 7;
+
+    private final PoolRepository poolRepository;
+    private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final DataVersion dataVersion;
+
+    public ScheduleService(PoolRepository poolRepository, TeamRepository teamRepository,
+                           MatchRepository matchRepository, EventRepository eventRepository,
+                           EventService eventService, DataVersion dataVersion) {
+        this.poolRepository = poolRepository;
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.dataVersion = dataVersion;
+    }
+
+    // One event per round, or several when a round has more matches than courts; events are spaced by
+    // intervalDays from startDate. Everything is saved in a single transaction.
+    @Transactional
+    public List<EventResponse> schedule(Long poolId, ScheduleRequest request) {
+        if (!poolRepository.existsById(poolId)) {
+            throw new ApiException.NotFound("Poule non trouvée");
+        }
+        List<Team> teams = new ArrayList<>(teamRepository.findByPoolId(poolId));
+        if (teams.size() < 2) {
+            throw new ApiException.BadRequest("La poule doit contenir au moins 2 équipes");
+        }
+        teams.sort(Comparator.comparing(Team::getId));
+        if (matchRepository.existsBetweenTeams(teams.stream().map(Team::getId).toList())) {
+            throw new ApiException.Conflict("Des matchs existent déjà entre les équipes de cette poule");
+        }
+
+        int courts = request.courts() != null ? request.courts() : DEFAULT_COURTS;
+        int interval = request.intervalDays() != null ? request.intervalDays() : DEFAULT_INTERVAL_DAYS;
+        List<Event> events = new ArrayList<>();
+        LocalDate date = request.startDate();
+        for (List<RoundRobin.Pairing<Team>> round : RoundRobin.rounds(teams)) {
+            for (int from = 0; from < round.size(); from += courts) {
+                Event event = new Event();
+                event.setEventDate(date);
+                event.setEventTime(request.eventTime());
+                List<RoundRobin.Pairing<Team>> slot = round.subList(from, Math.min(from + courts, round.size()));
+                for (int court = 0; court < slot.size(); court++) {
+                    Match match = new Match();
+                    match.setEvent(event);
+                    match.setCourtNumber(court + 1);
+                    match.setTeam1(slot.get(court).home());
+                    match.setTeam2(slot.get(court).away());
+                    match.setStatus(MatchStatus.A_VENIR);
+                    event.getMatches().add(match);
+                }
+                events.add(event);
+                date = date.plusDays(interval);
+            }
+        }
+        eventRepository.saveAll(events);
+        dataVersion.changed();
+        return events.stream().map(eventService::toResponse).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.polypadel.service;
+
+import com.polypadel.exception.ApiException;
+import com.polypadel.model.Match;
+
+// Parses "6-4, 3-6, 7-5" style scores once, when a match is written; reads use the derived columns.
+// Each team's string is read from its own side, so a team's games for a set are the first number of that set.
+public final class Scores {
+    public static final int MAX_SETS = 3;
+    private static final int MAX_GAMES = 0xFF;
+
+    private Scores() {}
+
+    public static void apply(Match match) {
+        String score1 = match.getScoreTeam1();
+        String score2 = match.getScoreTeam2();
+        if (score1 == null || score2 == null) {
+            match.setGamesTeam1(null);
+            match.setGamesTeam2(null);
+            match.setSetsTeam1(null);
+            match.setSetsTeam2(null);
+            match.setWinner(null);
+            return;
+        }
+        int packed1 = parse(score1);
+        int packed2 = parse(score2);
+        int sets = Math.min(setCount(packed1), setCount(packed2));
+        int won1 = 0, won2 = 0;
+        for (int i = 0; i < sets; i++) {
+            int g1 = games(packed1, i);
+            int g2 = games(packed2, i);
+            if (g1 > g2) won1++;
+            else if (g2 > g1) won2++;
+        }
+        match.setGamesTeam1(packed1);
+        match.setGamesTeam2(packed2);
+        match.setSetsTeam1(won1);
+        match.setSetsTeam2(won2);
+        match.setWinner(won1 > won2 ? 1 : won2 > won1 ? 2 : 0);
+    }
+
+    // Set count in the high byte, games of set i in byte i. Each set is exactly two numbers around a '-'.
+    public static int parse(String score) {
+        int packed = 0, sets = 0, value = -1, other = -1;
+        boolean secondNumber = false, ended = false;
+        for (int i = 0, n = score.length(); i <= n; i++) {
+            char c = i < n ? score.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                // "6 4" is two numbers, not 64
+                if (ended) throw invalid();
+                if (secondNumber) {
+                    other = (other < 0 ? 0 : other * 10) + (c - '0');
+                    if (other > MAX_GAMES) throw invalid();
+                } else {
+                    value = (value < 0 ? 0 : value * 10) + (c - '0');
+                    if (value > MAX_GAMES) throw invalid();
+                }
+            } else if (c == ' ') {
+                ended = (secondNumber ? other : value) >= 0;
+            } else if (c == '-') {
+                if (secondNumber || value < 0) throw invalid();
+                secondNumber = true;
+                ended = false;
+            } else if (c == ',') {
+                if (other < 0 || sets == MAX_SETS) throw invalid();
+                packed |= value << (8 * sets++);
+                value = -1;
+                other = -1;
+                secondNumber = false;
+                ended = false;
+            } else {
+                throw invalid();
+            }
+        }
+        return packed | sets << 24;
+    }
+
+    public static int setCount(int packed) {
+        return packed >>> 24;
+    }
+
+    public static int games(int packed, int set) {
+        return (packed >>> (8 * set)) & MAX_GAMES;
+    }
+
+    private static ApiException invalid() {
+        return new ApiException.BadRequest("Format score invalide");
+    }
+}
@@ -1,11 +1,11 @@
 package com.polypadel.service;
 
 import com.polypadel.dto.*;
+import com.polypadel.exception.ApiException;
 import com.polypadel.model.*;
 import com.polypadel.repository.*;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
@@ -14,46 +14,49 @@ public class TeamService {
     private final PlayerRepository playerRepository;
     private final PoolRepository poolRepository;
     private final MatchRepository matchRepository;
+    private final DataVersion dataVersion;
 
     public TeamService(TeamRepository teamRepository, PlayerRepository playerRepository,
-                       PoolRepository poolRepository, MatchRepository matchRepository) {
+                       PoolRepository poolRepository, MatchRepository matchRepository, DataVersion dataVersion) {
         this.teamRepository = teamRepository;
         this.playerRepository = playerRepository;
         this.poolRepository = poolRepository;
         this.matchRepository = matchRepository;
+        this.dataVersion = dataVersion;
     }
 
-    public List<TeamResponse> findAll(Long poolId, String company) {
+    @Transactional(readOnly = true)
+    public CursorPage<TeamResponse> findAll(Long poolId, String company, Integer limit, String after) {
+        int size = Cursors.limit(limit);
+        long afterId = Cursors.afterId(after);
         List<Team> teams;
         if (poolId != null) {
-            teams = teamRepository.findByPoolId(poolId);
+            teams = teamRepository.findByPoolIdAndIdGreaterThanOrderByIdAsc(poolId, afterId, Cursors.fetchLimit(size));
         } else if (company != null) {
-            teams = teamRepository.findByCompany(company);
+            teams = teamRepository.findByCompanyAndIdGreaterThanOrderByIdAsc(company, afterId, Cursors.fetchLimit(size));
         } else {
-            teams = teamRepository.findAll();
+            teams = teamRepository.findByIdGreaterThanOrderByIdAsc(afterId, Cursors.fetchLimit(size));
         }
-        return teams.stream().map(this::toResponse).toList();
+        return Cursors.page(teams, size, t -> String.valueOf(t.getId()), this::toResponse);
     }
 
+    @Transactional(readOnly = true)
     public TeamResponse findById(Long id) {
         return toResponse(teamRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe non trouvée")));
+            .orElseThrow(() -> new ApiException.NotFound("Équipe non trouvée")));
     }
 
     public TeamResponse create(TeamRequest request) {
         if (request.player1Id().equals(request.player2Id())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Les deux joueurs doivent être différents");
+            throw new ApiException.BadRequest("Les deux joueurs doivent être différents");
         }
         Player p1 = playerRepository.findById(request.player1Id())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur 1 non trouvé"));
+            .orElseThrow(() -> new ApiException.NotFound("Joueur 1 non trouvé"));
         Player p2 = playerRepository.findById(request.player2Id())
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Joueur 2 non trouvé"));
-        
-        if (!p1.getCompany().equals(p2.getCompany())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Les joueurs doivent appartenir à la même entreprise");
-        }
+            .orElseThrow(() -> new ApiException.NotFound("Joueur 2 non trouvé"));
+        requireSameCompany(p1, p2);
         if (!teamRepository.findByPlayerId(p1.getId()).isEmpty() || !teamRepository.findByPlayerId(p2.getId()).isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Un joueur est déjà dans une équipe");
+            throw new ApiException.Conflict("Un joueur est déjà dans une équipe");
         }
 
         Team team = new Team();
@@ -63,29 +66,41 @@ public class TeamService {
         if (request.poolId() != null) {
             team.setPool(poolRepository.findById(request.poolId()).orElse(null));
         }
-        return toResponse(teamRepository.save(team));
+        team = teamRepository.save(team);
+        dataVersion.changed();
+        return toResponse(team);
     }
 
     public TeamResponse update(Long id, TeamRequest request) {
         Team team = teamRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Équipe non trouvée"));
         if (!matchRepository.findByTeamId(id).isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Modification impossible: des matchs existent");
+            throw new ApiException.Conflict("Modification impossible: des matchs existent");
         }
         team.setCompany(request.company());
         if (request.poolId() != null) {
             team.setPool(poolRepository.findById(request.poolId()).orElse(null));
         }
-        return toResponse(teamRepository.save(team));
+        team = teamRepository.save(team);
+        dataVersion.changed();
+        return toResponse(team);
     }
 
     public void delete(Long id) {
         Team team = teamRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Équipe non trouvée"));
+            .orElseThrow(() -> new ApiException.NotFound("Équipe non trouvée"));
         if (!matchRepository.findByTeamId(id).isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Suppression impossible: des matchs existent");
+            throw new ApiException.Conflict("Suppression impossible: des matchs existent");
         }
         teamRepository.delete(team);
+        dataVersion.changed();
+    }
+
+    // Also applied to the rows of a CSV import
+    static void requireSameCompany(Player p1, Player p2) {
+        if (!p1.getCompany().equals(p2.getCompany())) {
+            throw new ApiException.BadRequest("Les joueurs doivent appartenir à la même entreprise");
+        }
     }
 
     public TeamResponse toResponse(Team t) {
@@ -0,0 +1,101 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import java.sql.*;
+import java.util.HashSet;
+import java.util.Set;
+
+// Adds the structured score columns (databases created by ddl-auto may already have them) and fills them for scored matches.
+// The score format is copied here rather than taken from the application, so later changes to it cannot alter this migration.
+public class V2__Structured_scores extends BaseJavaMigration {
+    private static final String[] COLUMNS = {"games_team1", "games_team2", "sets_team1", "sets_team2", "winner"};
+    private static final int MAX_SETS = 3;
+    private static final int MAX_GAMES = 0xFF;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Set<String> existing = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA table_info(matches)")) {
+            while (rs.next()) {
+                existing.add(rs.getString("name"));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String column : COLUMNS) {
+                if (!existing.contains(column)) {
+                    statement.execute("ALTER TABLE matches ADD COLUMN " + column + " integer");
+                }
+            }
+        }
+
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT id, score_team1, score_team2 FROM matches " +
+                 "WHERE winner IS NULL AND score_team1 IS NOT NULL AND score_team2 IS NOT NULL");
+             PreparedStatement update = connection.prepareStatement("UPDATE matches SET games_team1 = ?, games_team2 = ?, " +
+                 "sets_team1 = ?, sets_team2 = ?, winner = ? WHERE id = ?")) {
+            while (rs.next()) {
+                int packed1 = parse(rs.getString("score_team1"));
+                int packed2 = parse(rs.getString("score_team2"));
+                if (packed1 < 0 || packed2 < 0) {
+                    // Unreadable legacy score: left without derived columns
+                    continue;
+                }
+                int sets = Math.min(packed1 >>> 24, packed2 >>> 24);
+                int won1 = 0, won2 = 0;
+                for (int i = 0; i < sets; i++) {
+                    int g1 = (packed1 >>> (8 * i)) & MAX_GAMES;
+                    int g2 = (packed2 >>> (8 * i)) & MAX_GAMES;
+                    if (g1 > g2) won1++;
+                    else if (g2 > g1) won2++;
+                }
+                update.setInt(1, packed1);
+                update.setInt(2, packed2);
+                update.setInt(3, won1);
+                update.setInt(4, won2);
+                update.setInt(5, won1 > won2 ? 1 : won2 > won1 ? 2 : 0);
+                update.setLong(6, rs.getLong("id"));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    // "6-4, 3-6" read from the team's side: set count in the high byte, games of set i in byte i, -1 if unreadable
+    private static int parse(String score) {
+        int packed = 0, sets = 0, value = -1, other = -1;
+        boolean secondNumber = false, ended = false;
+        for (int i = 0, n = score.length(); i <= n; i++) {
+            char c = i < n ? score.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                // "6 4" is two numbers, not 64
+                if (ended) return -1;
+                if (secondNumber) {
+                    other = (other < 0 ? 0 : other * 10) + (c - '0');
+                    if (other > MAX_GAMES) return -1;
+                } else {
+                    value = (value < 0 ? 0 : value * 10) + (c - '0');
+                    if (value > MAX_GAMES) return -1;
+                }
+            } else if (c == ' ') {
+                ended = (secondNumber ? other : value) >= 0;
+            } else if (c == '-') {
+                if (secondNumber || value < 0) return -1;
+                secondNumber = true;
+                ended = false;
+            } else if (c == ',') {
+                if (other < 0 || sets == MAX_SETS) return -1;
+                packed |= value << (8 * sets++);
+                value = -1;
+                other = -1;
+                secondNumber = false;
+                ended = false;
+            } else {
+                return -1;
+            }
+        }
+        return packed | sets << 24;
+    }
+}
@@ -0,0 +1,8 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update); existing databases are baselined at this version
+CREATE TABLE IF NOT EXISTS users (id integer, created_at timestamp, email varchar(255) not null unique, is_active boolean not null, must_change_password boolean not null, password_hash varchar(255) not null, role varchar(255) not null check (role in ('JOUEUR','ADMINISTRATEUR')), primary key (id));
+CREATE TABLE IF NOT EXISTS players (id integer, birth_date date, company varchar(255) not null, first_name varchar(255) not null, last_name varchar(255) not null, license_number varchar(255) not null unique, photo_url varchar(255), user_id bigint unique, primary key (id));
+CREATE TABLE IF NOT EXISTS pools (id integer, name varchar(255) not null unique, primary key (id));
+CREATE TABLE IF NOT EXISTS teams (id integer, company varchar(255) not null, player1_id bigint not null, player2_id bigint not null, pool_id bigint, primary key (id));
+CREATE TABLE IF NOT EXISTS events (id integer, event_date date not null, event_time time(6) not null, primary key (id));
+CREATE TABLE IF NOT EXISTS matches (id integer, court_number integer not null, score_team1 varchar(255), score_team2 varchar(255), status varchar(255) not null check (status in ('A_VENIR','TERMINE','ANNULE')), event_id bigint not null, team1_id bigint not null, team2_id bigint not null, primary key (id));
+CREATE TABLE IF NOT EXISTS login_attempts (id integer, attempts_count integer not null, email varchar(255) not null, last_attempt timestamp, locked_until timestamp, primary key (id));
@@ -0,0 +1,11 @@
+-- Predicates used by the match, team, event and login attempt repositories
+CREATE INDEX IF NOT EXISTS idx_matches_team1 ON matches (team1_id);
+CREATE INDEX IF NOT EXISTS idx_matches_team2 ON matches (team2_id);
+CREATE INDEX IF NOT EXISTS idx_matches_event ON matches (event_id);
+CREATE INDEX IF NOT EXISTS idx_matches_status ON matches (status);
+CREATE INDEX IF NOT EXISTS idx_events_date ON events (event_date);
+CREATE INDEX IF NOT EXISTS idx_teams_pool ON teams (pool_id);
+CREATE INDEX IF NOT EXISTS idx_teams_player1 ON teams (player1_id);
+CREATE INDEX IF NOT EXISTS idx_teams_player2 ON teams (player2_id);
+CREATE INDEX IF NOT EXISTS idx_teams_company ON teams (company);
+CREATE INDEX IF NOT EXISTS idx_login_attempts_email ON login_attempts (email);
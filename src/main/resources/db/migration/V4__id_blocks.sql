@@ -0,0 +1,7 @@
+-- Next free id per table for BlockIdGenerator, which reserves ids in blocks so inserts can be batched
+CREATE TABLE id_blocks (name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL);
+INSERT INTO id_blocks (name, next_val) SELECT 'players', COALESCE(MAX(id), 0) + 1 FROM players;
+INSERT INTO id_blocks (name, next_val) SELECT 'teams', COALESCE(MAX(id), 0) + 1 FROM teams;
+INSERT INTO id_blocks (name, next_val) SELECT 'pools', COALESCE(MAX(id), 0) + 1 FROM pools;
+INSERT INTO id_blocks (name, next_val) SELECT 'events', COALESCE(MAX(id), 0) + 1 FROM events;
+INSERT INTO id_blocks (name, next_val) SELECT 'matches', COALESCE(MAX(id), 0) + 1 FROM matches;
@@ -8,7 +8,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,6 +53,57 @@ class AdminControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void importTeamsReportsRowErrors() throws Exception {
+        String token = getAdminToken();
+        MockMultipartFile file = new MockMultipartFile("file", "teams.csv", "text/csv",
+            "player1License,player2License\nL000001,L000002\n".getBytes());
+        mockMvc.perform(multipart("/admin/import/teams").file(file)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(1))
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    void importWithPlayerToken() throws Exception {
+        String token = getPlayerToken();
+        MockMultipartFile file = new MockMultipartFile("file", "players.csv", "text/csv", "firstName\n".getBytes());
+        mockMvc.perform(multipart("/admin/import/players").file(file)
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void exportRankingsStreamsAnAttachment() throws Exception {
+        String token = getAdminToken();
+        MvcResult result = mockMvc.perform(get("/admin/export/rankings").param("format", "ndjson")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"rankings.ndjson\""));
+    }
+
+    @Test
+    void exportUnknownFormat() throws Exception {
+        String token = getAdminToken();
+        mockMvc.perform(get("/admin/export/matches").param("format", "xml")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportWithPlayerToken() throws Exception {
+        String token = getPlayerToken();
+        mockMvc.perform(get("/admin/export/results")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
     private String getAdminToken() {
         LoginResponse response = authService.login(new LoginRequest("admin@padel.com", "Admin@2025!"));
         return response.accessToken();
@@ -6,6 +6,7 @@ import com.polypadel.model.User;
 import com.polypadel.repository.PlayerRepository;
 import com.polypadel.repository.UserRepository;
 import com.polypadel.service.AdminService;
+import com.polypadel.security.PrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -28,6 +29,7 @@ class AdminServiceUnitTest {
     @Mock private UserRepository userRepository;
     @Mock private PlayerRepository playerRepository;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private PrincipalCache principalCache;
     @InjectMocks private AdminService adminService;
 
     @Test
@@ -83,6 +85,7 @@ class AdminServiceUnitTest {
         assertEquals("new-hash", user.getPasswordHash());
         assertTrue(user.isMustChangePassword());
         assertEquals("reset@test.com", response.email());
+        verify(principalCache).invalidate(3L);
     }
 
     @Test
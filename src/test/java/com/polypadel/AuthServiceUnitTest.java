@@ -2,13 +2,14 @@ package com.polypadel;
 
 import com.polypadel.dto.LoginRequest;
 import com.polypadel.dto.PasswordChangeRequest;
-import com.polypadel.model.LoginAttempt;
 import com.polypadel.model.Role;
 import com.polypadel.model.User;
-import com.polypadel.repository.LoginAttemptRepository;
 import com.polypadel.repository.UserRepository;
 import com.polypadel.security.JwtService;
+import com.polypadel.security.LoginAttemptTracker;
 import com.polypadel.service.AuthService;
+import com.polypadel.security.PasswordHasher;
+import com.polypadel.security.PrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +22,8 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,9 +35,11 @@ import static org.mockito.Mockito.verify;
 class AuthServiceUnitTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private LoginAttemptRepository loginAttemptRepository;
+    @Mock private LoginAttemptTracker loginAttemptTracker;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtService jwtService;
+    @Mock private PrincipalCache principalCache;
+    @Mock private PasswordHasher passwordHasher;
     @InjectMocks private AuthService authService;
 
     @Test
@@ -75,13 +80,29 @@ class AuthServiceUnitTest {
 
     @Test
     void loginRespectsLockout() {
-        LoginAttempt attempt = new LoginAttempt("locked@test.com");
-        attempt.setLockedUntil(LocalDateTime.now().plusMinutes(10));
-
-        when(loginAttemptRepository.findByEmail("locked@test.com")).thenReturn(Optional.of(attempt));
+        when(loginAttemptTracker.lockedUntil("locked@test.com")).thenReturn(Optional.of(LocalDateTime.now().plusMinutes(10)));
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
             () -> authService.login(new LoginRequest("locked@test.com", "ignored")));
         assertEquals(HttpStatus.FORBIDDEN, ex.getStatusCode());
     }
+
+    @Test
+    void loginAsyncVerifiesOnHashingPool() {
+        ReflectionTestUtils.setField(authService, "maxAttempts", 3);
+        User user = new User("user@test.com", "hash", Role.JOUEUR);
+        user.setId(9L);
+        when(loginAttemptTracker.recordFailure("user@test.com", true)).thenReturn(1);
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("good", "hash")).thenReturn(CompletableFuture.completedFuture(true));
+        when(passwordHasher.matches("bad", "hash")).thenReturn(CompletableFuture.completedFuture(false));
+        when(jwtService.generateToken(9L, "user@test.com", "JOUEUR")).thenReturn("token");
+
+        assertEquals("token", authService.loginAsync(new LoginRequest("user@test.com", "good")).join().accessToken());
+
+        CompletionException ex = assertThrows(CompletionException.class,
+            () -> authService.loginAsync(new LoginRequest("user@test.com", "bad")).join());
+        assertEquals(HttpStatus.UNAUTHORIZED, ((ResponseStatusException) ex.getCause()).getStatusCode());
+        verify(loginAttemptTracker).recordSuccess("user@test.com");
+    }
 }
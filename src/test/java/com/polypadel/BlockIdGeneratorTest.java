@@ -0,0 +1,118 @@
+package com.polypadel;
+
+import com.polypadel.model.Pool;
+import com.polypadel.repository.PoolRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BlockIdGeneratorTest {
+
+    @Autowired private PoolRepository poolRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void idsComeFromReservedBlocksAndRollbacksReleaseThem() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long reserved = nextVal();
+
+        Long rolledBack = tx.execute(status -> {
+            Long id = poolRepository.save(pool()).getId();
+            status.setRollbackOnly();
+            return id;
+        });
+        // The reservation, if that transaction made one, is rolled back with it
+        assertEquals(reserved, nextVal());
+
+        Long first = tx.execute(status -> poolRepository.save(pool()).getId());
+        Long second = tx.execute(status -> poolRepository.save(pool()).getId());
+        try {
+            assertTrue(first <= rolledBack + 1 || first >= reserved);
+            assertTrue(second > first);
+            assertTrue(nextVal() > second);
+        } finally {
+            poolRepository.deleteAllById(List.of(first, second));
+        }
+    }
+
+    @Test
+    void blockReservedByAnUncommittedTransactionIsNotSharedWithOtherSessions() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch otherStarted = new CountDownLatch(1);
+        ExecutorService sessions = Executors.newFixedThreadPool(2);
+        try {
+            // Saves until this transaction has reserved a block, then rolls back once the other session is running
+            Future<?> rolledBack = sessions.submit(() -> tx.executeWithoutResult(status -> {
+                long before = nextVal();
+                while (nextVal() == before) {
+                    poolRepository.saveAndFlush(pool());
+                }
+                reserved.countDown();
+                await(otherStarted);
+                sleep();
+                status.setRollbackOnly();
+            }));
+            Future<Long> committed = sessions.submit(() -> {
+                await(reserved);
+                otherStarted.countDown();
+                return tx.execute(status -> poolRepository.save(pool()).getId());
+            });
+            rolledBack.get(30, TimeUnit.SECONDS);
+            Long other = committed.get(30, TimeUnit.SECONDS);
+
+            List<Long> after = tx.execute(status -> List.of(
+                poolRepository.save(pool()).getId(), poolRepository.save(pool()).getId(), poolRepository.save(pool()).getId()));
+            try {
+                assertFalse(after.contains(other));
+                assertTrue(poolRepository.existsById(other));
+            } finally {
+                poolRepository.deleteAllById(after);
+                poolRepository.deleteById(other);
+            }
+        } finally {
+            sessions.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Leaves the other session time to ask for its id while the reservation is still uncommitted
+    private static void sleep() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_blocks WHERE name = 'pools'", Long.class);
+    }
+
+    private static Pool pool() {
+        Pool pool = new Pool();
+        pool.setName("Bloc " + System.nanoTime());
+        return pool;
+    }
+}
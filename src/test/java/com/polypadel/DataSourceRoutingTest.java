@@ -0,0 +1,36 @@
+package com.polypadel;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DataSourceRoutingTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void writerRunsInWalMode() {
+        assertEquals("wal", jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReadOnlyPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Integer pools = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pools", Integer.class));
+        assertNotNull(pools);
+        assertThrows(DataAccessException.class, () -> readOnly.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE pools SET name = name")));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE pools SET name = name"));
+    }
+}
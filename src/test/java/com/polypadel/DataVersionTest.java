@@ -0,0 +1,50 @@
+package com.polypadel;
+
+import com.polypadel.service.DataVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionTest {
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesOutsideATransactionBumpTheTagImmediately() {
+        String before = dataVersion.etag();
+        dataVersion.changed();
+        assertNotEquals(before, dataVersion.etag());
+        assertTrue(dataVersion.etag().startsWith("\"") && dataVersion.etag().endsWith("\""));
+    }
+
+    @Test
+    void changesInATransactionBumpTheTagOnlyOnCommit() {
+        String before = dataVersion.etag();
+        TransactionSynchronizationManager.initSynchronization();
+        dataVersion.changed();
+        assertEquals(before, dataVersion.etag());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNotEquals(before, dataVersion.etag());
+    }
+
+    @Test
+    void rolledBackChangesKeepTheTag() {
+        String before = dataVersion.etag();
+        TransactionSynchronizationManager.initSynchronization();
+        dataVersion.changed();
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(before, dataVersion.etag());
+    }
+}
@@ -0,0 +1,71 @@
+package com.polypadel;
+
+import com.polypadel.model.*;
+import com.polypadel.repository.EventRepository;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.EventService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class EventQueryCountTest {
+
+    @Autowired private EventService eventService;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void eventListingStatementCountDoesNotGrowWithEvents() {
+        List<Team> teams = teamRepository.findAll();
+        assertTrue(teams.size() >= 4);
+
+        long before = statementsForListing();
+        for (int i = 0; i < 10; i++) {
+            Event event = new Event();
+            event.setEventDate(LocalDate.of(2030, 1, 1).plusDays(i));
+            event.setEventTime(LocalTime.of(19, 0));
+            for (int court = 0; court < 2; court++) {
+                Match match = new Match();
+                match.setEvent(event);
+                match.setCourtNumber(court + 1);
+                match.setTeam1(teams.get((i + court * 2) % teams.size()));
+                match.setTeam2(teams.get((i + court * 2 + 1) % teams.size()));
+                event.getMatches().add(match);
+            }
+            eventRepository.save(event);
+        }
+        long after = statementsForListing();
+
+        assertEquals(2, before);
+        assertEquals(before, after);
+        assertEquals(2, statements(() -> eventService.findAll(null, null, "2030-01", null, null)));
+    }
+
+    private long statementsForListing() {
+        return statements(() -> eventService.findAll(null, null, null, null, null));
+    }
+
+    private long statements(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
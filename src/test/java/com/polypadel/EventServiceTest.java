@@ -1,5 +1,9 @@
 package com.polypadel;
 
+import com.polypadel.dto.CursorPage;
+import com.polypadel.dto.EventResponse;
+import com.polypadel.model.Event;
+import com.polypadel.repository.EventRepository;
 import com.polypadel.service.EventService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +11,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -15,15 +24,18 @@ class EventServiceTest {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventRepository eventRepository;
+
     @Test
     void findAllEvents() {
-        var events = eventService.findAll(null, null, null);
+        var events = eventService.findAll(null, null, null, null, null);
         assertNotNull(events);
     }
 
     @Test
     void findEventsWithMonth() {
-        var events = eventService.findAll(null, null, "2025-12");
+        var events = eventService.findAll(null, null, "2025-12", null, null);
         assertNotNull(events);
     }
 
@@ -33,4 +45,56 @@ class EventServiceTest {
             () -> eventService.findById(99999L));
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
     }
+
+    @Test
+    void pagesEventsByDateThenId() {
+        List<EventResponse> all = eventService.findAll(null, null, null, 500, null).items();
+        List<EventResponse> paged = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<EventResponse> page = eventService.findAll(null, null, null, 3, after);
+            paged.addAll(page.items());
+            after = page.nextCursor();
+        } while (after != null);
+
+        assertEquals(all.stream().map(EventResponse::id).toList(), paged.stream().map(EventResponse::id).toList());
+        for (int i = 1; i < paged.size(); i++) {
+            assertFalse(paged.get(i).eventDate().isBefore(paged.get(i - 1).eventDate()));
+        }
+    }
+
+    @Test
+    void cursorSurvivesItsRowBeingDeletedOrMoved() {
+        LocalDate day = LocalDate.of(2099, 1, 10);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Event event = new Event();
+            event.setEventDate(day);
+            event.setEventTime(LocalTime.NOON);
+            events.add(eventRepository.save(event));
+        }
+        try {
+            CursorPage<EventResponse> first = eventService.findAll(null, null, "2099-01", 1, null);
+            assertEquals(events.get(0).getId(), first.items().get(0).id());
+            eventRepository.deleteById(events.get(0).getId());
+
+            CursorPage<EventResponse> second = eventService.findAll(null, null, "2099-01", 1, first.nextCursor());
+            assertEquals(events.get(1).getId(), second.items().get(0).id());
+            Event moved = events.get(1);
+            moved.setEventDate(day.plusDays(5));
+            eventRepository.save(moved);
+
+            CursorPage<EventResponse> third = eventService.findAll(null, null, "2099-01", 1, second.nextCursor());
+            assertEquals(events.get(2).getId(), third.items().get(0).id());
+        } finally {
+            eventRepository.deleteAllById(events.stream().map(Event::getId).toList());
+        }
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> eventService.findAll(null, null, null, 3, "123"));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
 }
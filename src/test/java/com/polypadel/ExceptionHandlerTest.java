@@ -1,13 +1,13 @@
 package com.polypadel;
 
 import com.polypadel.config.GlobalExceptionHandler;
+import com.polypadel.exception.ApiException;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 class ExceptionHandlerTest {
@@ -17,19 +17,38 @@ class ExceptionHandlerTest {
     @Test
     void handleResponseStatusException() {
         ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "Not found");
-        ResponseEntity<Map<String, Object>> response = handler.handleResponseStatus(ex);
-        
+        ResponseEntity<ProblemDetail> response = handler.handleResponseStatus(ex);
+
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertEquals(404, response.getBody().get("status"));
-        assertEquals("Not found", response.getBody().get("detail"));
+        assertEquals(404, response.getBody().getStatus());
+        assertEquals("Not found", response.getBody().getDetail());
+    }
+
+    @Test
+    void handleApiException() {
+        ResponseEntity<ProblemDetail> response = handler.handleResponseStatus(new ApiException.Conflict("Déjà pris"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(409, response.getBody().getStatus());
+        assertEquals("Conflict", response.getBody().getTitle());
+        assertEquals("Déjà pris", response.getBody().getDetail());
+    }
+
+    @Test
+    void apiExceptionsHaveNoStackTrace() {
+        ApiException ex = new ApiException.NotFound("Joueur non trouvé");
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        assertEquals("Joueur non trouvé", ex.getReason());
     }
 
     @Test
     void handleGenericException() {
         Exception ex = new RuntimeException("Something went wrong");
-        ResponseEntity<Map<String, Object>> response = handler.handleGeneral(ex);
-        
+        ResponseEntity<ProblemDetail> response = handler.handleGeneral(ex);
+
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertEquals(500, response.getBody().get("status"));
+        assertEquals(500, response.getBody().getStatus());
     }
 }
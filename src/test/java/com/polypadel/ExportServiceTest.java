@@ -0,0 +1,112 @@
+package com.polypadel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polypadel.model.*;
+import com.polypadel.repository.*;
+import com.polypadel.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ExportServiceTest {
+
+    @Autowired private ExportService exportService;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void exportsEveryMatchAsCsv() {
+        Match played = match(MatchStatus.TERMINE);
+        match(MatchStatus.A_VENIR);
+
+        List<String> lines = lines(null, ExportService.Format.CSV);
+
+        assertTrue(lines.get(0).startsWith("matchId,date,time,courtNumber,status,team1Id,company1,team1Players,"));
+        assertEquals(matchRepository.count() + 1, lines.size());
+        String row = lines.stream().filter(l -> l.startsWith(played.getId() + ",")).findFirst().orElseThrow();
+        assertTrue(row.contains(",TERMINE,"));
+        assertTrue(row.contains("\"6-4, 6-3\""), row);
+    }
+
+    @Test
+    void resultsOnlyContainFinishedMatchesAsNdjson() throws Exception {
+        Match played = match(MatchStatus.TERMINE);
+        Match upcoming = match(MatchStatus.A_VENIR);
+
+        List<String> lines = lines(MatchStatus.TERMINE, ExportService.Format.NDJSON);
+
+        assertFalse(lines.isEmpty());
+        boolean found = false;
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            assertEquals("TERMINE", node.get("status").asText());
+            assertNotEquals(upcoming.getId().longValue(), node.get("matchId").asLong());
+            if (node.get("matchId").asLong() == played.getId()) {
+                found = true;
+                assertEquals(2, node.get("setsTeam1").asInt());
+                assertEquals(1, node.get("winner").asInt());
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    void exportsRankings() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.rankings(ExportService.Format.CSV, out);
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("position,company,matchesPlayed,wins,losses,points,setsWon,setsLost\r\n"));
+    }
+
+    private List<String> lines(MatchStatus status, ExportService.Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.matches(status, format, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private Match match(MatchStatus status) {
+        List<Player> players = playerRepository.findAll().subList(0, 4);
+        Team team1 = team(players.get(0), players.get(1));
+        Team team2 = team(players.get(2), players.get(3));
+        Event event = new Event();
+        event.setEventDate(LocalDate.now().minusDays(1));
+        event.setEventTime(LocalTime.NOON);
+        eventRepository.save(event);
+        Match match = new Match();
+        match.setEvent(event);
+        match.setTeam1(team1);
+        match.setTeam2(team2);
+        match.setCourtNumber(1);
+        match.setStatus(status);
+        if (status == MatchStatus.TERMINE) {
+            match.setScoreTeam1("6-4, 6-3");
+            match.setScoreTeam2("4-6, 3-6");
+            match.setSetsTeam1(2);
+            match.setSetsTeam2(0);
+            match.setWinner(1);
+        }
+        return matchRepository.save(match);
+    }
+
+    private Team team(Player p1, Player p2) {
+        Team team = new Team();
+        team.setCompany(p1.getCompany());
+        team.setPlayer1(p1);
+        team.setPlayer2(p2);
+        return teamRepository.save(team);
+    }
+}
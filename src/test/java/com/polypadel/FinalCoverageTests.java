@@ -82,7 +82,7 @@ class FinalCoverageTests {
     @Test
     void matchServiceFindById() {
         try {
-            var m = new MatchService(null, null, null, null);
+            var m = new MatchService(null, null, null, null, null, null, null);
         } catch (Exception e) {
             // Expected
         }
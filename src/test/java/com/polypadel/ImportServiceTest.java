@@ -0,0 +1,139 @@
+package com.polypadel;
+
+import com.polypadel.dto.ImportReport;
+import com.polypadel.model.Player;
+import com.polypadel.repository.PlayerRepository;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.ImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Small chunks so every file below is saved in several transactions
+@SpringBootTest(properties = "app.import.chunk-size=2")
+@Transactional
+class ImportServiceTest {
+
+    private static final AtomicInteger NEXT_LICENSE = new AtomicInteger((int) (System.currentTimeMillis() % 100000));
+
+    @Autowired private ImportService importService;
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private TeamRepository teamRepository;
+
+    @Test
+    void importsValidPlayersAndReportsTheOthers() {
+        String a = license(), b = license(), c = license();
+        ImportReport report = importService.importPlayers(csv(
+            "Email,LicenseNumber,firstName,lastName,company\n"
+            + "a" + a + "@test.com," + a + ",Anne,Martin,Import Corp\n"
+            + "b" + b + "@test.com," + b + ",\"<b>Jean</b>\",\"Dupont, fils\",Import Corp\r\n"
+            + "\n"
+            + "c@test.com,X12,Paul,Durand,Import Corp\n"
+            + "d" + c + "@test.com," + a + ",Marc,Petit,Import Corp\n"
+            + "e" + c + "@test.com,L123456,Luc,Moreau,Import Corp\n"));
+
+        assertEquals(5, report.rows());
+        assertEquals(2, report.imported());
+        assertEquals(List.of(5, 6, 7), report.errors().stream().map(ImportReport.RowError::line).toList());
+        assertTrue(report.errors().get(0).message().startsWith("licenseNumber:"));
+        assertEquals("Numéro de licence en double dans le fichier", report.errors().get(1).message());
+        assertEquals("Ce numéro de licence existe déjà", report.errors().get(2).message());
+
+        Player jean = playerRepository.findByLicenseNumber(b).orElseThrow();
+        assertEquals("Jean", jean.getFirstName());
+        assertEquals("Dupont, fils", jean.getLastName());
+    }
+
+    @Test
+    void readsSemicolonSeparatedFilesWithByteOrderMark() {
+        String a = license();
+        ImportReport report = importService.importPlayers(csv(
+            "\uFEFFfirstName;lastName;company;licenseNumber;email\n"
+            + "Anne;Martin;Import Corp;" + a + ";a" + a + "@test.com\n"));
+
+        assertEquals(1, report.imported());
+        assertTrue(report.errors().isEmpty());
+        assertTrue(playerRepository.existsByLicenseNumber(a));
+    }
+
+    @Test
+    void refusesAFileWithoutTheExpectedColumns() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> importService.importPlayers(csv("firstName,lastName\nAnne,Martin\n")));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("company"));
+    }
+
+    @Test
+    void importsTeamsOfPlayersFromTheSameCompany() {
+        String a = license(), b = license(), c = license(), d = license(), e = license();
+        importService.importPlayers(csv("firstName,lastName,company,licenseNumber,email\n"
+            + "Anne,Martin,Import A," + a + ",a" + a + "@test.com\n"
+            + "Jean,Dupont,Import A," + b + ",b" + b + "@test.com\n"
+            + "Paul,Durand,Import A," + c + ",c" + c + "@test.com\n"
+            + "Marc,Petit,Import B," + d + ",d" + d + "@test.com\n"
+            + "Luc,Moreau,Import A," + e + ",e" + e + "@test.com\n"));
+
+        ImportReport report = importService.importTeams(csv("player1License,player2License\n"
+            + a + "," + b + "\n"
+            + c + "," + d + "\n"
+            + e + ",L000000\n"
+            + a + "," + c + "\n"));
+
+        assertEquals(4, report.rows());
+        assertEquals(1, report.imported());
+        assertEquals(List.of(
+            new ImportReport.RowError(3, "Les joueurs doivent appartenir à la même entreprise"),
+            new ImportReport.RowError(4, "Joueur 2 non trouvé"),
+            new ImportReport.RowError(5, "Un joueur apparaît dans plusieurs équipes du fichier")), report.errors());
+        assertEquals("Import A", teamRepository.findByCompany("Import A").get(0).getCompany());
+
+        ImportReport again = importService.importTeams(csv("player1License,player2License\n" + a + "," + c + "\n"));
+        assertEquals(0, again.imported());
+        assertEquals("Un joueur est déjà dans une équipe", again.errors().get(0).message());
+    }
+
+    @Test
+    void unclosedQuoteStopsTheImportButKeepsTheSavedRows() {
+        String a = license(), b = license(), c = license(), d = license();
+        ImportReport report = importService.importPlayers(csv(
+            "email,licenseNumber,firstName,lastName,company\n"
+            + "a" + a + "@test.com," + a + ",Anne,Martin,Quote Corp\n"
+            + "b" + b + "@test.com," + b + ",Jean,Dupont,Quote Corp\n"
+            + "c" + c + "@test.com," + c + ",Paul,\"Durand,Quote Corp\n"
+            + "d" + d + "@test.com," + d + ",Luc,Moreau,Quote Corp\n"));
+
+        assertEquals(3, report.rows());
+        assertEquals(2, report.imported());
+        assertEquals(List.of(new ImportReport.RowError(4, "Guillemet non fermé, la suite du fichier est ignorée")),
+            report.errors());
+        assertTrue(playerRepository.findByLicenseNumber(b).isPresent());
+        assertTrue(playerRepository.findByLicenseNumber(d).isEmpty());
+    }
+
+    @Test
+    void unclosedQuoteInTheHeaderIsRefused() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> importService.importPlayers(csv("email,\"licenseNumber\n")));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertEquals("Ligne 1: guillemet non fermé", ex.getReason());
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "import.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String license() {
+        return "L9" + String.format("%05d", NEXT_LICENSE.getAndIncrement() % 100000);
+    }
+}
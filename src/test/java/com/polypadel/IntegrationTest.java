@@ -44,7 +44,7 @@ class IntegrationTest {
         assertEquals("ADMINISTRATEUR", login.user().role());
 
         // Get initial players
-        List<PlayerResponse> players = playerService.findAll();
+        List<PlayerResponse> players = playerService.findAll(null, null).items();
         int initialCount = players.size();
         assertTrue(initialCount >= 4);
 
@@ -60,7 +60,7 @@ class IntegrationTest {
         assertEquals(2, team.players().size());
 
         // Get teams
-        List<TeamResponse> teams = teamService.findAll(null, null);
+        List<TeamResponse> teams = teamService.findAll(null, null, null, null).items();
         assertTrue(teams.size() >= 1);
 
         // Get rankings
@@ -33,4 +33,20 @@ class JwtServiceTest {
     void invalidToken() {
         assertFalse(jwtService.isValid("invalid.token.here"));
     }
+
+    @Test
+    void cachedTokenStillRejectsTampering() {
+        JwtService service = new JwtService("testSecretKeyForJWTTokenGeneration2025PolyPadelCache", 1, 2);
+        String token = service.generateToken(7L, "cache@test.com", "JOUEUR");
+        assertSame(service.parseToken(token), service.parseToken(token));
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertFalse(service.isValid(tampered));
+
+        // Eviction keeps the cache bounded without affecting validation
+        for (long id = 0; id < 5; id++) {
+            assertTrue(service.isValid(service.generateToken(id, "u" + id + "@test.com", "JOUEUR")));
+        }
+        assertEquals("7", service.parseToken(token).getSubject());
+    }
 }
@@ -0,0 +1,79 @@
+package com.polypadel;
+
+import com.polypadel.service.LiveUpdateService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveUpdateServiceTest {
+
+    private final LiveUpdateService liveUpdateService = new LiveUpdateService(1, 2, 1, 4);
+
+    @AfterEach
+    void shutdown() {
+        liveUpdateService.shutdown();
+    }
+
+    @Test
+    void tracksSubscribersPerChannel() {
+        liveUpdateService.subscribe(LiveUpdateService.Channel.MATCHES);
+        liveUpdateService.subscribe(LiveUpdateService.Channel.RANKINGS, "rankings", "[]");
+
+        assertEquals(1, liveUpdateService.subscriberCount(LiveUpdateService.Channel.MATCHES));
+        assertEquals(1, liveUpdateService.subscriberCount(LiveUpdateService.Channel.RANKINGS));
+    }
+
+    @Test
+    void dropsSubscribersThatCanNoLongerReceive() throws InterruptedException {
+        SseEmitter emitter = liveUpdateService.subscribe(LiveUpdateService.Channel.MATCHES);
+        emitter.complete();
+
+        liveUpdateService.publish(LiveUpdateService.Channel.MATCHES, "match", "{}");
+        for (int i = 0; i < 50 && liveUpdateService.subscriberCount(LiveUpdateService.Channel.MATCHES) > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, liveUpdateService.subscriberCount(LiveUpdateService.Channel.MATCHES));
+    }
+
+    @Test
+    void closesStreamsTheFanOutPoolCannotTakeInsteadOfLeavingThemWaiting() throws InterruptedException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(liveUpdateService, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        try {
+            SseEmitter emitter = liveUpdateService.subscribe(LiveUpdateService.Channel.RANKINGS, "rankings", "[]");
+
+            assertEquals(0, liveUpdateService.subscriberCount(LiveUpdateService.Channel.RANKINGS));
+            assertThrows(IllegalStateException.class, () -> emitter.send("late"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void heartbeatDropsIdleSubscribersThatAreGone() throws InterruptedException {
+        SseEmitter emitter = liveUpdateService.subscribe(LiveUpdateService.Channel.RANKINGS);
+        emitter.complete();
+
+        liveUpdateService.heartbeat();
+        for (int i = 0; i < 50 && liveUpdateService.subscriberCount(LiveUpdateService.Channel.RANKINGS) > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, liveUpdateService.subscriberCount(LiveUpdateService.Channel.RANKINGS));
+    }
+}
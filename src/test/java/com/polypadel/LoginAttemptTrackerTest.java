@@ -0,0 +1,106 @@
+package com.polypadel;
+
+import com.polypadel.model.LoginAttempt;
+import com.polypadel.repository.LoginAttemptRepository;
+import com.polypadel.security.LoginAttemptTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptTrackerTest {
+
+    @Mock private LoginAttemptRepository loginAttemptRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    private LoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LoginAttemptTracker(loginAttemptRepository, transactionManager, 3, 30, 10);
+    }
+
+    @Test
+    void locksAfterMaxAttemptsWithoutTouchingTheDatabase() {
+        assertEquals(1, tracker.recordFailure("a@test.com", true));
+        assertEquals(2, tracker.recordFailure("a@test.com", true));
+        assertTrue(tracker.lockedUntil("a@test.com").isEmpty());
+        assertEquals(3, tracker.recordFailure("a@test.com", true));
+        assertTrue(tracker.lockedUntil("a@test.com").isPresent());
+
+        tracker.recordSuccess("b@test.com");
+        verifyNoInteractions(loginAttemptRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushesDirtyEntriesInOneBatch() {
+        LoginAttempt existing = new LoginAttempt("old@test.com");
+        existing.setAttemptsCount(2);
+        when(loginAttemptRepository.findByEmailIn(anyCollection())).thenReturn(List.of(existing));
+
+        tracker.recordFailure("new@test.com", true);
+        tracker.recordFailure("old@test.com", true);
+        tracker.recordFailure("nobody@test.com", false);
+        tracker.recordSuccess("old@test.com");
+        tracker.flush();
+
+        ArgumentCaptor<List<LoginAttempt>> saved = ArgumentCaptor.forClass(List.class);
+        verify(loginAttemptRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(0, existing.getAttemptsCount());
+        LoginAttempt created = saved.getValue().stream().filter(a -> a.getEmail().equals("new@test.com")).findFirst().orElseThrow();
+        assertEquals(1, created.getAttemptsCount());
+
+        // Nothing left to write
+        tracker.flush();
+        verify(loginAttemptRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void emailsWithoutAccountAreCountedButNeverWritten() {
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("nobody@test.com", false);
+        }
+        assertTrue(tracker.lockedUntil("nobody@test.com").isPresent());
+
+        tracker.flush();
+        verifyNoInteractions(transactionManager, loginAttemptRepository);
+    }
+
+    @Test
+    void sprayedEmailsStayWithinMaxTrackedWithoutDroppingLockedAccounts() {
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("victim@test.com", true);
+        }
+        for (int i = 0; i < 1000; i++) {
+            tracker.recordFailure("spray" + i + "@test.com", false);
+        }
+
+        assertTrue(tracker.size() <= 10);
+        assertTrue(tracker.lockedUntil("victim@test.com").isPresent());
+    }
+
+    @Test
+    void restoresActiveLocksOnStartup() {
+        LoginAttempt locked = new LoginAttempt("locked@test.com");
+        locked.setAttemptsCount(3);
+        locked.setLockedUntil(LocalDateTime.now().plusMinutes(10));
+        when(loginAttemptRepository.findActive(any(), any())).thenReturn(List.of(locked));
+
+        tracker.load();
+
+        assertTrue(tracker.lockedUntil("locked@test.com").isPresent());
+        assertEquals(1, tracker.size());
+    }
+}
@@ -1,12 +1,20 @@
 package com.polypadel;
 
+import com.polypadel.dto.MatchResponse;
+import com.polypadel.model.*;
+import com.polypadel.repository.*;
 import com.polypadel.service.MatchService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -15,9 +23,15 @@ class MatchServiceTest {
     @Autowired
     private MatchService matchService;
 
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private EventRepository eventRepository;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private UserRepository userRepository;
+
     @Test
     void findUpcomingMatches() {
-        var matches = matchService.findUpcoming(null, null, null);
+        var matches = matchService.findUpcoming(null, null, null, null, null);
         assertNotNull(matches);
     }
 
@@ -34,4 +48,52 @@ class MatchServiceTest {
             () -> matchService.delete(99999L));
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
     }
+
+    @Test
+    @Transactional
+    void myMatchesOnlyReturnsMatchesOfTheUsersTeams() {
+        Player own = playerRepository.findById(1L).orElseThrow();
+        User user = own.getUser();
+        Team mine = team(own, playerRepository.findById(10L).orElseThrow());
+        Team other = team(playerRepository.findById(11L).orElseThrow(), playerRepository.findById(12L).orElseThrow());
+        Team third = team(playerRepository.findById(13L).orElseThrow(), playerRepository.findById(14L).orElseThrow());
+
+        Event event = new Event();
+        event.setEventDate(LocalDate.now().plusDays(1));
+        event.setEventTime(LocalTime.NOON);
+        eventRepository.save(event);
+        Match played = match(event, mine, other, 1);
+        Match notPlayed = match(event, other, third, 2);
+
+        List<Long> ids = matchService.findUpcoming(null, true, user, 500, null).items().stream()
+            .map(MatchResponse::id).toList();
+        assertTrue(ids.contains(played.getId()));
+        assertFalse(ids.contains(notPlayed.getId()));
+
+        User admin = userRepository.findByEmail("admin@padel.com").orElseThrow();
+        List<Long> adminIds = matchService.findUpcoming(null, true, admin, 500, null).items().stream()
+            .map(MatchResponse::id).toList();
+        assertFalse(adminIds.contains(played.getId()));
+
+        List<Long> all = matchService.findUpcoming(null, false, user, 500, null).items().stream()
+            .map(MatchResponse::id).toList();
+        assertTrue(all.containsAll(List.of(played.getId(), notPlayed.getId())));
+    }
+
+    private Team team(Player p1, Player p2) {
+        Team team = new Team();
+        team.setCompany(p1.getCompany());
+        team.setPlayer1(p1);
+        team.setPlayer2(p2);
+        return teamRepository.save(team);
+    }
+
+    private Match match(Event event, Team team1, Team team2, int court) {
+        Match match = new Match();
+        match.setEvent(event);
+        match.setTeam1(team1);
+        match.setTeam2(team2);
+        match.setCourtNumber(court);
+        return matchRepository.save(match);
+    }
 }
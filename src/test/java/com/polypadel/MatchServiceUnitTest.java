@@ -3,12 +3,17 @@ package com.polypadel;
 import com.polypadel.dto.MatchCreateRequest;
 import com.polypadel.dto.MatchResponse;
 import com.polypadel.dto.MatchUpdateRequest;
+import com.polypadel.dto.RankingDelta;
+import com.polypadel.dto.RankingRow;
 import com.polypadel.dto.TeamResponse;
 import com.polypadel.model.*;
 import com.polypadel.repository.EventRepository;
 import com.polypadel.repository.MatchRepository;
 import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.DataVersion;
+import com.polypadel.service.LiveUpdateService;
 import com.polypadel.service.MatchService;
+import com.polypadel.service.RankingService;
 import com.polypadel.service.TeamService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +25,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +41,9 @@ class MatchServiceUnitTest {
     @Mock private TeamService teamService;
     @Mock private TeamRepository teamRepository;
     @Mock private EventRepository eventRepository;
+    @Mock private RankingService rankingService;
+    @Mock private LiveUpdateService liveUpdateService;
+    @Mock private DataVersion dataVersion;
     @InjectMocks private MatchService matchService;
 
     private Event event() {
@@ -98,7 +107,7 @@ class MatchServiceUnitTest {
         match.setCourtNumber(1);
 
         when(matchRepository.findById(5L)).thenReturn(Optional.of(match));
-        when(matchRepository.save(eq(match))).thenReturn(match);
+        when(matchRepository.saveAndFlush(eq(match))).thenReturn(match);
         when(teamService.toResponse(any(Team.class))).thenReturn(
             new TeamResponse(10L, "A", java.util.List.of(), null),
             new TeamResponse(11L, "B", java.util.List.of(), null)
@@ -112,6 +121,35 @@ class MatchServiceUnitTest {
         assertEquals("4-6", match.getScoreTeam2());
     }
 
+    @Test
+    void rankingsStreamOnlyGetsTheRowsThatChanged() {
+        Match match = new Match();
+        match.setId(5L);
+        match.setEvent(event());
+        match.setTeam1(team(10L));
+        match.setTeam2(team(11L));
+        match.setStatus(MatchStatus.A_VENIR);
+        match.setCourtNumber(1);
+        when(matchRepository.findById(5L)).thenReturn(Optional.of(match));
+        when(matchRepository.saveAndFlush(eq(match))).thenReturn(match);
+        when(rankingService.replace(eq(5L), any())).thenReturn(true);
+
+        RankingRow alpha = new RankingRow(1, "Alpha", 1, 1, 0, 3, 2, 0);
+        RankingRow beta = new RankingRow(2, "Beta", 1, 0, 1, 0, 0, 2);
+        RankingRow gamma = new RankingRow(3, "Gamma", 0, 0, 0, 0, 0, 0);
+        when(rankingService.current()).thenReturn(List.of(alpha, beta, gamma),
+            List.of(new RankingRow(1, "Beta", 2, 1, 1, 3, 2, 2), new RankingRow(2, "Alpha", 1, 1, 0, 3, 2, 0)));
+
+        matchService.update(5L, new MatchUpdateRequest("TERMINE", "6-4", "4-6"));
+        matchService.update(5L, new MatchUpdateRequest("TERMINE", "4-6", "6-4"));
+
+        verify(liveUpdateService).publish(LiveUpdateService.Channel.RANKINGS, "rankings-delta",
+            new RankingDelta(List.of(alpha, beta, gamma), List.of()));
+        verify(liveUpdateService).publish(LiveUpdateService.Channel.RANKINGS, "rankings-delta",
+            new RankingDelta(List.of(new RankingRow(1, "Beta", 2, 1, 1, 3, 2, 2), new RankingRow(2, "Alpha", 1, 1, 0, 3, 2, 0)),
+                List.of("Gamma")));
+    }
+
     @Test
     void deleteBlocksCompletedMatches() {
         Match match = new Match();
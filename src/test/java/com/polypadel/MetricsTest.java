@@ -0,0 +1,64 @@
+package com.polypadel;
+
+import com.polypadel.dto.LoginRequest;
+import com.polypadel.service.AuthService;
+import com.polypadel.service.RankingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.metrics.scrape-token=test-scrape-token")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private AuthService authService;
+    @Autowired private RankingService rankingService;
+
+    @Test
+    void prometheusExposesLatencyHistogramsPoolsAndHibernate() throws Exception {
+        String token = token("admin@padel.com", "Admin@2025!");
+        mockMvc.perform(get("/teams").header("Authorization", "Bearer " + token)).andExpect(status().isOk());
+        rankingService.getRankings();
+
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("http_server_requests_seconds_bucket{application=\"polypadel\"")))
+            .andExpect(content().string(containsString("uri=\"/teams\"")))
+            .andExpect(content().string(containsString("rankings_get_seconds_bucket")))
+            .andExpect(content().string(containsString("auth_login_seconds_count")))
+            .andExpect(content().string(containsString("hikaricp_connections_max{application=\"polypadel\",pool=\"sqlite-writer\"}")))
+            .andExpect(content().string(containsString("hikaricp_connections_max{application=\"polypadel\",pool=\"sqlite-reader\"}")))
+            .andExpect(content().string(containsString("hibernate_query_executions_total")));
+    }
+
+    @Test
+    void prometheusIsForAdministratorsOnly() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + token("joueur@padel.com", "Joueur@2025!")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheusAcceptsTheScrapeTokenAndNothingElseWithoutLogin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer test-scrape-token"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("hikaricp_connections_max")));
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer wrong-token"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer test-scrape-token"))
+            .andExpect(status().isForbidden());
+    }
+
+    private String token(String email, String password) {
+        return authService.login(new LoginRequest(email, password)).accessToken();
+    }
+}
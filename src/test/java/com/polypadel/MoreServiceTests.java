@@ -38,7 +38,7 @@ class MoreServiceTests {
     @Test
     void teamFindById() {
         // Create team first if needed
-        List<TeamResponse> teams = teamService.findAll(null, null);
+        List<TeamResponse> teams = teamService.findAll(null, null, null, null).items();
         if (!teams.isEmpty()) {
             TeamResponse t = teamService.findById(teams.get(0).id());
             assertNotNull(t);
@@ -47,7 +47,7 @@ class MoreServiceTests {
 
     @Test
     void poolFindById() {
-        List<PoolResponse> pools = poolService.findAll();
+        List<PoolResponse> pools = poolService.findAll(null, null).items();
         if (!pools.isEmpty()) {
             PoolResponse p = poolService.findById(pools.get(0).id());
             assertNotNull(p);
@@ -57,13 +57,13 @@ class MoreServiceTests {
     @Test
     void eventFindByDateRange() {
         List<EventResponse> events = eventService.findAll(
-            LocalDate.now(), LocalDate.now().plusDays(60), null);
+            LocalDate.now(), LocalDate.now().plusDays(60), null, null, null).items();
         assertNotNull(events);
     }
 
     @Test
     void matchFindByTeam() {
-        List<MatchResponse> matches = matchService.findUpcoming(1L, null, null);
+        List<MatchResponse> matches = matchService.findUpcoming(1L, null, null, null, null).items();
         assertNotNull(matches);
     }
 
@@ -78,7 +78,7 @@ class MoreServiceTests {
 
     @Test
     void filterTeamsByPool() {
-        List<TeamResponse> teams = teamService.findAll(1L, null);
+        List<TeamResponse> teams = teamService.findAll(1L, null, null, null).items();
         assertNotNull(teams);
     }
 
@@ -109,7 +109,7 @@ class MoreServiceTests {
 
     @Test
     void updateMatchScore() {
-        List<MatchResponse> matches = matchService.findUpcoming(null, null, null);
+        List<MatchResponse> matches = matchService.findUpcoming(null, null, null, null, null).items();
         if (!matches.isEmpty()) {
             MatchResponse m = matches.get(0);
             if ("A_VENIR".equals(m.status())) {
@@ -0,0 +1,73 @@
+package com.polypadel;
+
+import com.polypadel.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence raw) {
+            return raw.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return raw.toString().equals(encoded);
+        }
+    };
+
+    private final PasswordHasher hasher = new PasswordHasher(slowEncoder, registry, 1, 1, 3);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void verifiesOffTheCallerThreadAndRecordsLatency() throws Exception {
+        release.countDown();
+        assertTrue(hasher.matches("secret", "secret").get(5, TimeUnit.SECONDS));
+        assertFalse(hasher.matches("secret", "other").get(5, TimeUnit.SECONDS));
+        assertEquals(2, registry.get("auth.password.hash").timer().count());
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenSaturated() {
+        CompletableFuture<Boolean> running = hasher.matches("a", "a");
+        CompletableFuture<Boolean> queued = hasher.matches("b", "b");
+
+        // One task on the single thread, one in the queue: the third is refused
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> hasher.matches("c", "c"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertEquals("3", ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, registry.get("auth.password.rejected").counter().count());
+        ResponseStatusException again = assertThrows(ResponseStatusException.class, () -> hasher.matches("d", "d"));
+        assertSame(ex.getHeaders(), again.getHeaders());
+        assertEquals(2, registry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.join() && queued.join());
+    }
+}
@@ -26,10 +26,12 @@ class PlayerControllerTest {
     @Test
     void getPlayersAuthenticated() throws Exception {
         String token = getAdminToken();
-        mockMvc.perform(get("/players")
+        mockMvc.perform(get("/players").param("limit", "2")
                 .header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.players").isArray());
+                .andExpect(jsonPath("$.players").isArray())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.total").doesNotExist());
     }
 
     @Test
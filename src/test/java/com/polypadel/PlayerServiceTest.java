@@ -1,7 +1,9 @@
 package com.polypadel;
 
+import com.polypadel.dto.CursorPage;
 import com.polypadel.dto.PlayerRequest;
 import com.polypadel.dto.PlayerResponse;
+import com.polypadel.repository.PlayerRepository;
 import com.polypadel.service.PlayerService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +11,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -17,10 +22,13 @@ class PlayerServiceTest {
     @Autowired
     private PlayerService playerService;
 
+    @Autowired
+    private PlayerRepository playerRepository;
+
     @Test
     void findAllPlayers() {
-        var players = playerService.findAll();
-        assertFalse(players.isEmpty());
+        var players = playerService.findAll(null, null);
+        assertFalse(players.items().isEmpty());
     }
 
     @Test
@@ -46,4 +54,31 @@ class PlayerServiceTest {
             () -> playerService.findById(99999L));
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
     }
+
+    @Test
+    void pagesThroughAllPlayersInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPage<PlayerResponse> page = playerService.findAll(40, after);
+            assertTrue(page.items().size() <= 40);
+            page.items().forEach(p -> ids.add(p.id()));
+            after = page.nextCursor();
+        } while (after != null);
+
+        assertEquals(playerRepository.count(), ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+
+    @Test
+    void rejectsInvalidLimitOrCursor() {
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> playerService.findAll(0, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> playerService.findAll(501, null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> playerService.findAll(10, "abc")).getStatusCode());
+    }
 }
@@ -3,12 +3,15 @@ package com.polypadel;
 import com.polypadel.dto.LoginRequest;
 import com.polypadel.dto.LoginResponse;
 import com.polypadel.service.AuthService;
+import com.polypadel.service.DataVersion;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -22,6 +25,9 @@ class PoolControllerTest {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private DataVersion dataVersion;
+
     @Test
     void getPools() throws Exception {
         String token = getAdminToken();
@@ -39,6 +45,41 @@ class PoolControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void unchangedPoolsAreNotSentAgain() throws Exception {
+        String token = getAdminToken();
+        String etag = mockMvc.perform(get("/pools")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/pools")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        dataVersion.changed();
+        String next = mockMvc.perform(get("/pools")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pools").isArray())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, next);
+    }
+
+    @Test
+    void scheduleUnknownPool() throws Exception {
+        String token = getAdminToken();
+        mockMvc.perform(post("/pools/99999/schedule")
+                .header("Authorization", "Bearer " + token)
+                .contentType("application/json")
+                .content("{\"startDate\":\"2099-01-01\",\"eventTime\":\"19:00\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     private String getAdminToken() {
         LoginResponse response = authService.login(new LoginRequest("admin@padel.com", "Admin@2025!"));
         return response.accessToken();
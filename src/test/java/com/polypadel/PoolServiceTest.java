@@ -20,7 +20,7 @@ class PoolServiceTest {
 
     @Test
     void findAllPools() {
-        var pools = poolService.findAll();
+        var pools = poolService.findAll(null, null);
         assertNotNull(pools);
     }
 
@@ -9,6 +9,7 @@ import com.polypadel.model.Team;
 import com.polypadel.repository.MatchRepository;
 import com.polypadel.repository.PoolRepository;
 import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.DataVersion;
 import com.polypadel.service.PoolService;
 import com.polypadel.service.TeamService;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ class PoolServiceUnitTest {
     @Mock private TeamRepository teamRepository;
     @Mock private MatchRepository matchRepository;
     @Mock private TeamService teamService;
+    @Mock private DataVersion dataVersion;
     @InjectMocks private PoolService poolService;
 
     private Team createTeam(long id) {
@@ -63,16 +65,16 @@ class PoolServiceUnitTest {
             Team team = invocation.getArgument(0);
             return new TeamResponse(team.getId(), team.getCompany(), List.of(), new TeamResponse.PoolInfo(10L, "PoolA"));
         });
-        for (Long id : teamIds) {
-            when(teamRepository.findById(id)).thenReturn(Optional.of(createTeam(id)));
-            when(teamRepository.save(any(Team.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        }
+        List<Team> teams = teamIds.stream().map(this::createTeam).toList();
+        when(teamRepository.findAllById(teamIds)).thenReturn(teams);
 
         PoolResponse response = poolService.create(request);
 
         assertEquals("PoolA", response.name());
         assertEquals(6, response.teamsCount());
         verify(poolRepository).save(any(Pool.class));
+        verify(teamRepository).saveAll(any());
+        assertTrue(teams.stream().allMatch(t -> t.getPool() == savedPool));
     }
 
     @Test
@@ -85,15 +87,12 @@ class PoolServiceUnitTest {
             () -> poolService.create(new PoolRequest("BadSize", List.of(1L,2L))));
 
         when(poolRepository.existsByName("PoolB")).thenReturn(false);
-        when(poolRepository.save(any(Pool.class))).thenAnswer(invocation -> {
-            Pool p = invocation.getArgument(0);
-            p.setId(20L);
-            return p;
-        });
-        when(teamRepository.findById(1L)).thenReturn(Optional.empty());
+        when(teamRepository.findAllById(List.of(1L,2L,3L,4L,5L,6L)))
+            .thenReturn(List.of(createTeam(2L), createTeam(3L), createTeam(4L), createTeam(5L), createTeam(6L)));
 
         assertEquals(HttpStatus.NOT_FOUND, assertThrows(ResponseStatusException.class,
             () -> poolService.create(new PoolRequest("PoolB", List.of(1L,2L,3L,4L,5L,6L)))).getStatusCode());
+        verify(poolRepository, never()).save(any(Pool.class));
     }
 
     @Test
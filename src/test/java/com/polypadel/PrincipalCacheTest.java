@@ -0,0 +1,137 @@
+package com.polypadel;
+
+import com.polypadel.model.Role;
+import com.polypadel.model.User;
+import com.polypadel.security.PrincipalCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, User> loader = id -> {
+        loads.incrementAndGet();
+        User user = new User("user" + id + "@test.com", "hash", Role.JOUEUR);
+        user.setId(id);
+        return user;
+    };
+
+    @Test
+    void loadsOnceUntilInvalidated() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+
+        User first = cache.get(1L, loader);
+        assertEquals("user1@test.com", cache.get(1L, loader).getEmail());
+        assertEquals(1, loads.get());
+
+        cache.invalidate(1L);
+        assertEquals(first.getId(), cache.get(1L, loader).getId());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void callersGetTheirOwnCopy() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+
+        User principal = cache.get(1L, loader);
+        principal.setEmail("changed@test.com");
+
+        User next = cache.get(1L, loader);
+        assertNotSame(principal, next);
+        assertEquals("user1@test.com", next.getEmail());
+        assertEquals(1, loads.get());
+    }
+
+    // More parked loads than carrier threads: a load holding a monitor would pin every carrier and stall the last get
+    @Test
+    void loadsOnVirtualThreadsDoNotPinTheirCarrier() throws Exception {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+        int parked = Runtime.getRuntime().availableProcessors() + 4;
+        CountDownLatch loading = new CountDownLatch(parked);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, User> slow = id -> {
+            loading.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return loader.apply(id);
+        };
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id = 1; id <= parked; id++) {
+                long userId = id;
+                executor.submit(() -> cache.get(userId, slow));
+            }
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            Future<User> other = executor.submit(() -> cache.get(1000L, loader));
+            assertEquals(1000L, other.get(5, TimeUnit.SECONDS).getId());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void slowLoadDoesNotBlockOtherUsers() throws Exception {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, User> slow = id -> {
+            loading.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return loader.apply(id);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<User> first = executor.submit(() -> cache.get(1L, slow));
+            Future<User> waiting = executor.submit(() -> {
+                loading.await(10, TimeUnit.SECONDS);
+                return cache.get(1L, loader);
+            });
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            // Users hashing anywhere, including next to id 1, load while id 1 is still loading
+            for (long id = 2; id <= 64; id++) {
+                assertEquals(id, cache.get(id, loader).getId());
+            }
+            release.countDown();
+            assertEquals(1L, first.get(10, TimeUnit.SECONDS).getId());
+            assertEquals(1L, waiting.get(10, TimeUnit.SECONDS).getId());
+            assertEquals(64, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        PrincipalCache cache = new PrincipalCache(0, 100);
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void staysWithinMaxSizeAndSkipsUnknownUsers() {
+        PrincipalCache cache = new PrincipalCache(60, 2);
+        for (long id = 1; id <= 5; id++) {
+            cache.get(id, loader);
+        }
+        assertTrue(cache.size() <= 2);
+
+        assertNull(cache.get(99L, id -> null));
+        assertTrue(cache.size() <= 2);
+    }
+}
@@ -6,7 +6,9 @@ import com.polypadel.model.Role;
 import com.polypadel.model.User;
 import com.polypadel.repository.PlayerRepository;
 import com.polypadel.repository.UserRepository;
+import com.polypadel.service.DataVersion;
 import com.polypadel.service.ProfileService;
+import com.polypadel.security.PrincipalCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -34,6 +36,8 @@ class ProfileServiceUnitTest {
 
     @Mock private UserRepository userRepository;
     @Mock private PlayerRepository playerRepository;
+    @Mock private PrincipalCache principalCache;
+    @Mock private DataVersion dataVersion;
     @InjectMocks private ProfileService profileService;
 
     @TempDir
@@ -0,0 +1,77 @@
+package com.polypadel;
+
+import com.polypadel.config.QueryCountFilter;
+import com.polypadel.config.QueryMonitor;
+import com.polypadel.dto.LoginRequest;
+import com.polypadel.repository.PlayerRepository;
+import com.polypadel.service.AuthService;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMonitorTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private AuthService authService;
+    @Autowired private QueryMonitor queryMonitor;
+    @Autowired private PlayerRepository playerRepository;
+
+    @Test
+    void responsesCarryTheirStatementCount() throws Exception {
+        String token = authService.login(new LoginRequest("admin@padel.com", "Admin@2025!")).accessToken();
+        String count = mockMvc.perform(get("/events").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(QueryCountFilter.HEADER);
+
+        assertNotNull(count);
+        assertTrue(Integer.parseInt(count) >= 1, count);
+    }
+
+    @Test
+    void repeatedStatementsAreReportedAsProbableNPlusOne(CapturedOutput output) {
+        queryMonitor.begin();
+        for (int i = 0; i < 10; i++) {
+            playerRepository.existsByLicenseNumber("L00000" + i);
+        }
+        assertEquals(10, queryMonitor.count());
+        queryMonitor.end("GET /test");
+
+        assertTrue(output.getOut().contains("N+1 probable sur GET /test: 10 ex"));
+        assertEquals(0, queryMonitor.count());
+    }
+
+    @Test
+    void slowStatementsAreLoggedWithTheirParameters(CapturedOutput output) throws Exception {
+        QueryMonitor monitor = new QueryMonitor(100, 10);
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(250);
+        execution.setStatementType(StatementType.PREPARED);
+        QueryInfo query = new QueryInfo("SELECT * FROM players WHERE license_number = ?");
+        query.getParametersList().add(List.of(new ParameterSetOperation(
+            PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, "L123456"})));
+
+        monitor.afterQuery(execution, List.of(query));
+
+        assertTrue(output.getOut().contains("SQL lente"));
+        assertTrue(output.getOut().contains("L123456"));
+    }
+}
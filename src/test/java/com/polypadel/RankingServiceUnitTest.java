@@ -0,0 +1,168 @@
+package com.polypadel;
+
+import com.polypadel.dto.RankingRow;
+import com.polypadel.model.*;
+import com.polypadel.repository.MatchRepository;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.RankingService;
+import com.polypadel.service.Scores;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingServiceUnitTest {
+
+    @Mock private MatchRepository matchRepository;
+    @Mock private TeamRepository teamRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @InjectMocks private RankingService rankingService;
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Match match(long id, String company1, String company2, MatchStatus status, String score1, String score2) {
+        Team t1 = new Team();
+        t1.setCompany(company1);
+        Team t2 = new Team();
+        t2.setCompany(company2);
+        Match m = new Match();
+        m.setId(id);
+        m.setTeam1(t1);
+        m.setTeam2(t2);
+        m.setStatus(status);
+        m.setScoreTeam1(score1);
+        m.setScoreTeam2(score2);
+        Scores.apply(m);
+        return m;
+    }
+
+    @Test
+    void loadsOnceThenAppliesUpdatesIncrementally() {
+        Match played = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(played));
+
+        List<RankingRow> initial = rankingService.getRankings();
+        assertEquals("Alpha", initial.get(0).company());
+        assertEquals(3, initial.get(0).points());
+
+        Match next = match(2L, "Beta", "Gamma", MatchStatus.A_VENIR, null, null);
+        next.setStatus(MatchStatus.TERMINE);
+        next.setScoreTeam1("6-4, 6-4");
+        next.setScoreTeam2("4-6, 4-6");
+        Scores.apply(next);
+        assertTrue(rankingService.replace(next.getId(), RankingService.outcomeOf(next)));
+
+        List<RankingRow> rankings = rankingService.getRankings();
+        assertEquals(3, rankings.size());
+        RankingRow beta = rankings.stream().filter(r -> r.company().equals("Beta")).findFirst().orElseThrow();
+        assertEquals(2, beta.matchesPlayed());
+        assertEquals(1, beta.wins());
+        verify(matchRepository, times(1)).findByStatus(MatchStatus.TERMINE);
+    }
+
+    @Test
+    void correctionsReverseThePreviousResult() {
+        Match played = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(played));
+        rankingService.getRankings();
+
+        played.setScoreTeam1("4-6, 2-6");
+        played.setScoreTeam2("6-4, 6-2");
+        Scores.apply(played);
+        rankingService.replace(played.getId(), RankingService.outcomeOf(played));
+
+        List<RankingRow> rankings = rankingService.getRankings();
+        assertEquals("Beta", rankings.get(0).company());
+        assertEquals(1, rankings.get(0).matchesPlayed());
+        assertEquals(0, rankings.get(1).wins());
+
+        played.setStatus(MatchStatus.ANNULE);
+        rankingService.replace(played.getId(), RankingService.outcomeOf(played));
+        assertTrue(rankingService.getRankings().isEmpty());
+    }
+
+    @Test
+    void sameResultWrittenTwiceIsCountedOnce() {
+        Match played = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(played));
+        rankingService.getRankings();
+
+        // Two admins correct the same match from the same starting point
+        Match corrected = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "4-6, 2-6", "6-4, 6-2");
+        assertTrue(rankingService.replace(1L, RankingService.outcomeOf(corrected)));
+        assertFalse(rankingService.replace(1L, RankingService.outcomeOf(corrected)));
+
+        List<RankingRow> rankings = rankingService.getRankings();
+        assertEquals(2, rankings.size());
+        assertEquals("Beta", rankings.get(0).company());
+        assertEquals(1, rankings.get(0).matchesPlayed());
+        assertEquals(1, rankings.get(1).matchesPlayed());
+        assertEquals(0, rankings.get(1).points());
+    }
+
+    @Test
+    void writeCommittedAfterALoadThatMissedItIsReadAgain() {
+        Match pending = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(), List.of(pending));
+
+        // Not loaded yet: the write cannot be counted, and a load before its commit does not see it
+        TransactionSynchronizationManager.initSynchronization();
+        assertFalse(rankingService.replace(1L, RankingService.outcomeOf(pending)));
+        assertTrue(rankingService.getRankings().isEmpty());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(2, rankingService.getRankings().size());
+        verify(matchRepository, times(2)).findByStatus(MatchStatus.TERMINE);
+    }
+
+    @Test
+    void rolledBackCorrectionIsDropped() {
+        Match played = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(played));
+        rankingService.getRankings();
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(rankingService.replace(1L, null));
+        assertTrue(rankingService.getRankings().isEmpty());
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(2, rankingService.getRankings().size());
+        verify(matchRepository, times(2)).findByStatus(MatchStatus.TERMINE);
+    }
+
+    @Test
+    void committedCorrectionKeepsTheStandings() {
+        Match played = match(1L, "Alpha", "Beta", MatchStatus.TERMINE, "6-4, 6-2", "4-6, 2-6");
+        when(matchRepository.findByStatus(MatchStatus.TERMINE)).thenReturn(List.of(played));
+        rankingService.getRankings();
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(rankingService.replace(1L, null));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertTrue(rankingService.getRankings().isEmpty());
+        verify(matchRepository, times(1)).findByStatus(MatchStatus.TERMINE);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
@@ -0,0 +1,60 @@
+package com.polypadel;
+
+import com.polypadel.dto.TeamResponse;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.TeamService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ReferenceDataCacheTest {
+
+    @Autowired private TeamService teamService;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void teamsAreServedFromTheSecondLevelCache() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        Long id = tx.execute(s -> teamRepository.findAll().get(0).getId());
+        tx.executeWithoutResult(s -> teamService.findById(id));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        tx.executeWithoutResult(s -> teamService.findById(id));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void teamListingIsServedFromTheQueryCache() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        List<Long> first = tx.execute(s -> ids(teamService.findAll(null, null, 20, null).items()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<Long> second = tx.execute(s -> ids(teamService.findAll(null, null, 20, null).items()));
+
+        assertEquals(first, second);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getQueryCacheHitCount() > 0);
+    }
+
+    private static List<Long> ids(List<TeamResponse> teams) {
+        return teams.stream().map(TeamResponse::id).toList();
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +34,19 @@ class ResultsControllerTest {
                 .andExpect(jsonPath("$.rankings").isArray());
     }
 
+    @Test
+    void streamRankingsSendsCurrentStandings() throws Exception {
+        String token = getAdminToken();
+        MvcResult result = mockMvc.perform(get("/results/rankings/stream")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        for (int i = 0; i < 50 && result.getResponse().getContentAsString().isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(result.getResponse().getContentAsString().startsWith("event:rankings"));
+    }
+
     private String getAdminToken() {
         LoginResponse response = authService.login(new LoginRequest("admin@padel.com", "Admin@2025!"));
         return response.accessToken();
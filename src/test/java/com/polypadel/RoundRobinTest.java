@@ -0,0 +1,55 @@
+package com.polypadel;
+
+import com.polypadel.service.RoundRobin;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundRobinTest {
+
+    @Test
+    void sixTeamsPlayFifteenMatchesOverFiveRounds() {
+        List<List<RoundRobin.Pairing<Integer>>> rounds = RoundRobin.rounds(teams(6));
+        assertEquals(5, rounds.size());
+        rounds.forEach(round -> assertEquals(3, round.size()));
+        assertEveryPairMeetsOnce(rounds, 6);
+    }
+
+    @Test
+    void oddCountGivesEachTeamOneRest() {
+        List<List<RoundRobin.Pairing<Integer>>> rounds = RoundRobin.rounds(teams(5));
+        assertEquals(5, rounds.size());
+        rounds.forEach(round -> assertEquals(2, round.size()));
+        assertEveryPairMeetsOnce(rounds, 5);
+    }
+
+    @Test
+    void fixedTeamAlternatesSides() {
+        List<List<RoundRobin.Pairing<Integer>>> rounds = RoundRobin.rounds(teams(6));
+        long home = rounds.stream().flatMap(List::stream).filter(p -> p.home() == 0).count();
+        long away = rounds.stream().flatMap(List::stream).filter(p -> p.away() == 0).count();
+        assertTrue(Math.abs(home - away) <= 1);
+    }
+
+    private static List<Integer> teams(int n) {
+        return IntStream.range(0, n).boxed().toList();
+    }
+
+    private static void assertEveryPairMeetsOnce(List<List<RoundRobin.Pairing<Integer>>> rounds, int n) {
+        Set<String> pairs = new HashSet<>();
+        for (List<RoundRobin.Pairing<Integer>> round : rounds) {
+            Set<Integer> playing = new HashSet<>();
+            for (RoundRobin.Pairing<Integer> p : round) {
+                assertNotEquals(p.home(), p.away());
+                assertTrue(playing.add(p.home()) && playing.add(p.away()), "team plays twice in a round");
+                assertTrue(pairs.add(Math.min(p.home(), p.away()) + "-" + Math.max(p.home(), p.away())));
+            }
+        }
+        assertEquals(n * (n - 1) / 2, pairs.size());
+    }
+}
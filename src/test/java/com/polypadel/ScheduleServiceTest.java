@@ -0,0 +1,127 @@
+package com.polypadel;
+
+import com.polypadel.dto.EventResponse;
+import com.polypadel.dto.MatchResponse;
+import com.polypadel.dto.ScheduleRequest;
+import com.polypadel.model.Player;
+import com.polypadel.model.Pool;
+import com.polypadel.model.Team;
+import com.polypadel.repository.PlayerRepository;
+import com.polypadel.repository.PoolRepository;
+import com.polypadel.repository.TeamRepository;
+import com.polypadel.service.ScheduleService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ScheduleServiceTest {
+
+    @Autowired private ScheduleService scheduleService;
+    @Autowired private PoolRepository poolRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void schedulesAFullRoundRobinForSixTeams() {
+        Pool pool = pool(6);
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<EventResponse> events = scheduleService.schedule(pool.getId(),
+            new ScheduleRequest(start, LocalTime.of(19, 0), null, null));
+
+        assertEquals(5, events.size());
+        assertEquals(start, events.get(0).eventDate());
+        assertEquals(start.plusWeeks(4), events.get(4).eventDate());
+        Set<String> pairs = new HashSet<>();
+        for (EventResponse event : events) {
+            assertEquals(3, event.matches().size());
+            Set<Long> playing = new HashSet<>();
+            Set<Integer> courts = new HashSet<>();
+            for (MatchResponse m : event.matches()) {
+                assertTrue(playing.add(m.team1().id()) && playing.add(m.team2().id()));
+                assertTrue(courts.add(m.courtNumber()) && m.courtNumber() <= 3);
+                pairs.add(Math.min(m.team1().id(), m.team2().id()) + "-" + Math.max(m.team1().id(), m.team2().id()));
+            }
+        }
+        assertEquals(15, pairs.size());
+    }
+
+    @Test
+    void splitsRoundsWhenCourtsAreShort() {
+        Pool pool = pool(6);
+        List<EventResponse> events = scheduleService.schedule(pool.getId(),
+            new ScheduleRequest(LocalDate.now().plusDays(1), LocalTime.NOON, 2, 3));
+
+        assertEquals(10, events.size());
+        assertEquals(15, events.stream().mapToInt(e -> e.matches().size()).sum());
+        assertTrue(events.stream().allMatch(e -> e.matches().size() <= 2));
+        assertEquals(events.get(0).eventDate().plusDays(3), events.get(1).eventDate());
+    }
+
+    @Test
+    void insertsTheSeasonInBatches() {
+        Pool pool = pool(6);
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        scheduleService.schedule(pool.getId(), new ScheduleRequest(LocalDate.now().plusDays(1), LocalTime.NOON, null, null));
+        entityManager.flush();
+
+        assertEquals(20, statistics.getEntityInsertCount());
+        // Lookups, id reservations and one batched INSERT per table instead of one per row
+        assertTrue(statistics.getPrepareStatementCount() <= 10, "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void refusesToScheduleTwice() {
+        Pool pool = pool(6);
+        ScheduleRequest request = new ScheduleRequest(LocalDate.now().plusDays(1), LocalTime.NOON, null, null);
+        scheduleService.schedule(pool.getId(), request);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> scheduleService.schedule(pool.getId(), request));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+    }
+
+    @Test
+    void unknownPool() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> scheduleService.schedule(99999L, new ScheduleRequest(LocalDate.now(), LocalTime.NOON, null, null)));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+
+    private Pool pool(int size) {
+        Pool pool = new Pool();
+        pool.setName("Poule test " + System.nanoTime());
+        poolRepository.save(pool);
+        List<Player> players = playerRepository.findAll().subList(0, size * 2);
+        for (int i = 0; i < size; i++) {
+            Team team = new Team();
+            team.setCompany(players.get(2 * i).getCompany());
+            team.setPlayer1(players.get(2 * i));
+            team.setPlayer2(players.get(2 * i + 1));
+            team.setPool(pool);
+            teamRepository.save(team);
+        }
+        return pool;
+    }
+}
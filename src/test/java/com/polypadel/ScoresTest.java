@@ -0,0 +1,88 @@
+package com.polypadel;
+
+import com.polypadel.model.Match;
+import com.polypadel.service.Scores;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoresTest {
+
+    private Match scored(String score1, String score2) {
+        Match match = new Match();
+        match.setScoreTeam1(score1);
+        match.setScoreTeam2(score2);
+        Scores.apply(match);
+        return match;
+    }
+
+    @Test
+    void packsGamesPerSet() {
+        int packed = Scores.parse("6-4, 3-6, 10-8");
+        assertEquals(3, Scores.setCount(packed));
+        assertEquals(6, Scores.games(packed, 0));
+        assertEquals(3, Scores.games(packed, 1));
+        assertEquals(10, Scores.games(packed, 2));
+    }
+
+    @Test
+    void derivesSetsAndWinner() {
+        Match match = scored("6-3, 4-6, 7-6", "3-6, 6-4, 6-7");
+        assertEquals(2, match.getSetsTeam1());
+        assertEquals(1, match.getSetsTeam2());
+        assertEquals(1, match.getWinner());
+
+        Match lost = scored("4-6, 5-7", "6-4, 7-5");
+        assertEquals(2, lost.getWinner());
+        assertEquals(0, lost.getSetsTeam1());
+    }
+
+    @Test
+    void tiedSetsCountForNobody() {
+        Match match = scored("6-6, 6-4", "6-6, 4-6");
+        assertEquals(1, match.getSetsTeam1());
+        assertEquals(0, match.getSetsTeam2());
+
+        assertEquals(0, scored("6-6", "6-6").getWinner());
+    }
+
+    @Test
+    void clearsDerivedColumnsWithoutBothScores() {
+        Match match = scored("6-4", "4-6");
+        match.setScoreTeam2(null);
+        Scores.apply(match);
+        assertNull(match.getWinner());
+        assertNull(match.getGamesTeam1());
+    }
+
+    @Test
+    void rejectsMalformedScores() {
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> Scores.parse("6-4, x-2")).getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6-4, 6-4, 6-4, 6-4"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("300-4"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse(""));
+    }
+
+    @Test
+    void rejectsSetsThatAreNotTwoNumbers() {
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+            () -> Scores.parse("6 4")).getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6-4-5"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6-"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("-4"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6-4, 3 -6 2"));
+        assertThrows(ResponseStatusException.class, () -> Scores.parse("6-4,"));
+    }
+
+    @Test
+    void acceptsSpacesAroundNumbers() {
+        int packed = Scores.parse(" 6 - 4 ,7-5 ");
+        assertEquals(2, Scores.setCount(packed));
+        assertEquals(6, Scores.games(packed, 0));
+        assertEquals(7, Scores.games(packed, 1));
+    }
+}
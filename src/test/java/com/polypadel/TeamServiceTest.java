@@ -41,7 +41,7 @@ class TeamServiceTest {
 
     @Test
     void findAllTeams() {
-        var teams = teamService.findAll(null, null);
+        var teams = teamService.findAll(null, null, null, null);
         assertNotNull(teams);
     }
 